@@ -19,10 +19,11 @@
 
 package org.eclipse.microprofile.opentracing;
 
-import java.util.ServiceLoader;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 
 import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Feature;
 
 /**
  * This class registers tracing components into {@link ClientBuilder}. It is required to call
@@ -34,10 +35,21 @@ import jakarta.ws.rs.client.ClientBuilder;
  * tracing integration. If a custom {@link ExecutorService} has to be used use
  * {@link ClientTracingRegistrar#configure(ClientBuilder, ExecutorService)}.
  *
+ * Existing clients can be traced by registering the {@link Feature} returned by {@link #feature()}.
+ *
+ * The {@link ClientTracingRegistrarProvider} is resolved once per context class loader and reused by subsequent calls.
+ * Containers which redeploy applications must call {@link #release(ClassLoader)} when an application is undeployed,
+ * a provider packaged in the application otherwise keeps the class loader of the application reachable.
+ *
  * @author Pavol Loffay
  */
 public class ClientTracingRegistrar {
 
+    private static final ProviderCache<ClientTracingRegistrarProvider> PROVIDERS =
+            new ProviderCache<>(ClientTracingRegistrarProvider.class);
+
+    private static final Feature NOOP_FEATURE = context -> false;
+
     private ClientTracingRegistrar() {
     }
 
@@ -49,8 +61,9 @@ public class ClientTracingRegistrar {
      * @return clientBuilder with tracing integration
      */
     public static ClientBuilder configure(ClientBuilder clientBuilder) {
-        for (ClientTracingRegistrarProvider registrar : ServiceLoader.load(ClientTracingRegistrarProvider.class)) {
-            return registrar.configure(clientBuilder);
+        Optional<ClientTracingRegistrarProvider> registrar = provider();
+        if (registrar.isPresent()) {
+            return registrar.get().configure(clientBuilder);
         }
         return clientBuilder;
     }
@@ -62,13 +75,47 @@ public class ClientTracingRegistrar {
      *            client builder
      * @param executorService
      *            executorService which will be added to the client. Note that this overrides executor service added
-     *            previously to the client.
+     *            previously to the client. Any executor service is supported, including one creating a virtual thread
+     *            per task.
      * @return clientBuilder with tracing integration
      */
     public static ClientBuilder configure(ClientBuilder clientBuilder, ExecutorService executorService) {
-        for (ClientTracingRegistrarProvider registrar : ServiceLoader.load(ClientTracingRegistrarProvider.class)) {
-            return registrar.configure(clientBuilder, executorService);
+        Optional<ClientTracingRegistrarProvider> registrar = provider();
+        if (registrar.isPresent()) {
+            return registrar.get().configure(clientBuilder, executorService);
         }
         return clientBuilder;
     }
+
+    /**
+     * Returns a {@link Feature} with tracing integration. Unlike {@link #configure(ClientBuilder)}, the feature can be
+     * registered on an existing, long-lived {@link jakarta.ws.rs.client.Client} or
+     * {@link jakarta.ws.rs.client.WebTarget}. The feature is thread-safe and can be shared by concurrent requests.
+     *
+     * @return feature with tracing integration, or a feature which enables nothing if no
+     *         {@link ClientTracingRegistrarProvider} is registered
+     */
+    public static Feature feature() {
+        Optional<ClientTracingRegistrarProvider> registrar = provider();
+        if (registrar.isPresent()) {
+            return registrar.get().feature();
+        }
+        return NOOP_FEATURE;
+    }
+
+    /**
+     * Release the provider resolved for the given class loader. The next call to {@link #configure(ClientBuilder)} or
+     * its variants made with this class loader as the context class loader looks the provider up again.
+     *
+     * @param classLoader
+     *            class loader whose provider should be released, usually the class loader of an undeployed
+     *            application
+     */
+    public static void release(ClassLoader classLoader) {
+        PROVIDERS.release(classLoader);
+    }
+
+    private static Optional<ClientTracingRegistrarProvider> provider() {
+        return PROVIDERS.get();
+    }
 }
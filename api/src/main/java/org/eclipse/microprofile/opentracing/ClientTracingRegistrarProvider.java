@@ -22,6 +22,8 @@ package org.eclipse.microprofile.opentracing;
 import java.util.concurrent.ExecutorService;
 
 import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Configuration;
+import jakarta.ws.rs.core.Feature;
 
 /**
  * Implementation of this interface will be used to configure {@link ClientBuilder} when
@@ -50,8 +52,33 @@ public interface ClientTracingRegistrarProvider {
      * @param clientBuilder
      *            Client builder to configure.
      * @param executorService
-     *            Executor service which will be added to the client builder.
+     *            Executor service which will be added to the client builder. Any executor service is supported,
+     *            including one creating a virtual thread per task.
      * @return clientBuilder with tracing integration
      */
     ClientBuilder configure(ClientBuilder clientBuilder, ExecutorService executorService);
+
+    /**
+     * Returns a thread-safe {@link Feature} with tracing integration which can be registered on an existing
+     * {@link jakarta.ws.rs.client.Client} or {@link jakarta.ws.rs.client.WebTarget} and shared by concurrent requests.
+     *
+     * The default implementation applies {@link #configure(ClientBuilder)} to a new {@link ClientBuilder} and
+     * registers the resulting components and properties on the configured client or target. Implementations should
+     * override it if their integration is not fully expressed by the configuration of the builder.
+     *
+     * @return feature with tracing integration
+     */
+    default Feature feature() {
+        return context -> {
+            Configuration configuration = configure(ClientBuilder.newBuilder()).getConfiguration();
+            configuration.getProperties().forEach(context::property);
+            for (Class<?> componentClass : configuration.getClasses()) {
+                context.register(componentClass, configuration.getContracts(componentClass));
+            }
+            for (Object component : configuration.getInstances()) {
+                context.register(component, configuration.getContracts(component.getClass()));
+            }
+            return true;
+        };
+    }
 }
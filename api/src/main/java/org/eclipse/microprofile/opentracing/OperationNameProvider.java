@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing;
+
+import java.lang.reflect.Method;
+
+/**
+ * Provides the operation name of server Spans created for JAX-RS resource methods.
+ *
+ * The provider is selected with the configuration key <code>mp.opentracing.server.operation-name-provider</code>
+ * whose value is the fully qualified class name of the implementation. The implementation must have a public no-arg
+ * constructor.
+ *
+ * The operation name of a resource method must not depend on the request. Implementations of this specification
+ * compute it once per resource method, when the application is deployed or on the first request to the method, and
+ * reuse it for all following requests.
+ */
+public interface OperationNameProvider {
+
+    /**
+     * Returns the operation name of server Spans created for the given resource method.
+     *
+     * @param httpMethod
+     *            HTTP method of the resource method, for example <code>GET</code>.
+     * @param resourceClass
+     *            Resource class.
+     * @param resourceMethod
+     *            Resource method.
+     * @return operation name
+     */
+    String operationName(String httpMethod, Class<?> resourceClass, Method resourceMethod);
+}
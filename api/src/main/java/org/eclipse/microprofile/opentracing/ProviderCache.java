@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+
+/**
+ * Provider of a service interface looked up via {@link ServiceLoader} once per context class loader.
+ *
+ * @param <S>
+ *            service interface
+ */
+final class ProviderCache<S> {
+
+    private final Class<S> service;
+
+    /**
+     * Resolved providers keyed by the class loader used for the lookup. An empty value means that no provider is
+     * registered for the class loader.
+     * <p>
+     * The keys are weak, so an entry is dropped with its class loader when the provider was loaded by another class
+     * loader, e.g. by the container. A provider loaded by the key class loader itself keeps its class loader reachable,
+     * so its entry is only removed by {@link #release(ClassLoader)}.
+     */
+    private final Map<ClassLoader, Optional<S>> providers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    ProviderCache(Class<S> service) {
+        this.service = service;
+    }
+
+    /**
+     * Get the provider registered for the context class loader, or for the class loader of the API if there is no
+     * context class loader.
+     *
+     * @return the first registered provider, or empty if there is none
+     */
+    Optional<S> get() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = ProviderCache.class.getClassLoader();
+        }
+        return providers.computeIfAbsent(classLoader, this::load);
+    }
+
+    /**
+     * Release the provider resolved for the given class loader.
+     *
+     * @param classLoader
+     *            class loader whose provider should be released
+     */
+    void release(ClassLoader classLoader) {
+        providers.remove(classLoader);
+    }
+
+    private Optional<S> load(ClassLoader classLoader) {
+        Iterator<S> iterator = ServiceLoader.load(service, classLoader).iterator();
+        if (iterator.hasNext()) {
+            return Optional.of(iterator.next());
+        }
+        return Optional.empty();
+    }
+}
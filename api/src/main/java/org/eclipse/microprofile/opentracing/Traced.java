@@ -37,7 +37,8 @@ import jakarta.interceptor.InterceptorBinding;
  * This annotation applies to a class or a method. When applied to a class, this annotation is applied to all methods of
  * the class. If the annotation is applied to a class and method then the annotation applied to the method takes
  * precedence. The annotation starts a Span at the beginning of the method, and finishes the Span at the end of the
- * method.
+ * method. If the method returns a {@link java.util.concurrent.CompletionStage}, the Span is finished when the returned
+ * stage completes.
  *
  * This annotation also has {@code InterceptorBinding} for frameworks to process all of each application's explicit
  * {@code Traced} annotations.
@@ -77,4 +78,48 @@ public @interface Traced {
      */
     @Nonbinding
     String operationName() default "";
+
+    /**
+     * Defaults to 1.0. The probability, between 0.0 and 1.0, that an invocation of the annotated method creates a Span.
+     * The sampling decision is made by the interceptor before the Span is built. When an invocation is not sampled no
+     * Span is allocated and the method is invoked as if it was not traced. A value of 0.0 or less never creates a Span,
+     * a value of 1.0 or more always creates a Span. If samplingRate is specified on a class, it applies to all methods
+     * of the class unless a method explicitly overrides it with its own <code>@Traced</code> annotation.
+     *
+     * The samplingRate has no effect on JAX-RS endpoint methods.
+     *
+     * @return the probability that an invocation is traced.
+     */
+    @Nonbinding
+    double samplingRate() default 1.0;
+
+    /**
+     * Defaults to -1. The minimum duration in microseconds of a Span created for the annotated method. When an
+     * invocation finishes faster than this threshold and no error was logged to its Span, the Span is discarded before
+     * it is reported. A negative value uses the value of the <code>mp.opentracing.traced.min-duration</code>
+     * configuration key, which defaults to 0. A value of 0 keeps all Spans. If minDurationMicros is specified on a
+     * class, it applies to all methods of the class unless a method explicitly overrides it with its own
+     * <code>@Traced</code> annotation.
+     *
+     * The minDurationMicros has no effect on JAX-RS endpoint methods.
+     *
+     * @return the minimum duration in microseconds of a reported Span.
+     */
+    @Nonbinding
+    long minDurationMicros() default -1;
+
+    /**
+     * Defaults to false. When true, all invocations of the annotated method with the same operation name under the same
+     * parent Span are collapsed into a single Span. The Span is started by the first invocation and carries the number
+     * of invocations and their total, minimum and maximum durations as tags, and the error of the first failed
+     * invocation. No Span is activated while an aggregated invocation executes. If aggregate is specified on a class,
+     * it applies to all methods of the class unless a method explicitly overrides it with its own
+     * <code>@Traced</code> annotation.
+     *
+     * The aggregate has no effect on JAX-RS endpoint methods.
+     *
+     * @return whether invocations under the same parent Span are aggregated into one Span.
+     */
+    @Nonbinding
+    boolean aggregate() default false;
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * This class wraps executors to propagate the active span to the threads running submitted tasks. The span active
+ * when a task is submitted is active while the task runs, so spans created by the task, including client spans of
+ * outbound requests, are its children.
+ *
+ * The span is captured once per submitted task and the wrapped executor keeps the lifecycle of the original one:
+ * shutting down the wrapper shuts down the wrapped executor.
+ *
+ * The {@link TracedExecutorsProvider} is resolved once per context class loader and reused by subsequent calls. If no
+ * provider is registered the executors are returned unchanged.
+ */
+public class TracedExecutors {
+
+    private static final ProviderCache<TracedExecutorsProvider> PROVIDERS =
+            new ProviderCache<>(TracedExecutorsProvider.class);
+
+    private TracedExecutors() {
+    }
+
+    /**
+     * Wrap executor service to propagate the active span to submitted tasks.
+     *
+     * @param executorService
+     *            executor service to wrap
+     * @return executor service propagating the active span
+     */
+    public static ExecutorService wrap(ExecutorService executorService) {
+        Optional<TracedExecutorsProvider> provider = PROVIDERS.get();
+        if (provider.isPresent()) {
+            return provider.get().wrap(executorService);
+        }
+        return executorService;
+    }
+
+    /**
+     * Wrap scheduled executor service to propagate the active span to submitted tasks.
+     *
+     * @param executorService
+     *            scheduled executor service to wrap
+     * @return scheduled executor service propagating the active span
+     */
+    public static ScheduledExecutorService wrap(ScheduledExecutorService executorService) {
+        Optional<TracedExecutorsProvider> provider = PROVIDERS.get();
+        if (provider.isPresent()) {
+            return provider.get().wrap(executorService);
+        }
+        return executorService;
+    }
+
+    /**
+     * Release the provider resolved for the given class loader.
+     *
+     * @param classLoader
+     *            class loader whose provider should be released, usually the class loader of an undeployed
+     *            application
+     */
+    public static void release(ClassLoader classLoader) {
+        PROVIDERS.release(classLoader);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Implementation of this interface will be used to wrap executors when {@link TracedExecutors#wrap(ExecutorService)}
+ * or {@link TracedExecutors#wrap(ScheduledExecutorService)} is called.
+ *
+ * Implementation must be registered in <code>
+ * META-INF/services/org.eclipse.microprofile.opentracing.{@link TracedExecutorsProvider}
+ * </code>
+ */
+public interface TracedExecutorsProvider {
+
+    /**
+     * Wraps {@link ExecutorService} so that tasks run with the span which was active when they were submitted.
+     *
+     * @param executorService
+     *            Executor service to wrap.
+     * @return executor service propagating the active span
+     */
+    ExecutorService wrap(ExecutorService executorService);
+
+    /**
+     * Wraps {@link ScheduledExecutorService} so that tasks, including delayed and periodic ones, run with the span
+     * which was active when they were submitted.
+     *
+     * @param executorService
+     *            Scheduled executor service to wrap.
+     * @return scheduled executor service propagating the active span
+     */
+    ScheduledExecutorService wrap(ScheduledExecutorService executorService);
+}
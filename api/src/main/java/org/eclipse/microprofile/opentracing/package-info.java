@@ -27,5 +27,5 @@
  * @author <a href="mailto:steve.m.fontes@gmail.com">Steve Fontes</a>
  */
 
-@org.osgi.annotation.versioning.Version("2.0")
+@org.osgi.annotation.versioning.Version("2.1")
 package org.eclipse.microprofile.opentracing;
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.opentracing.ClientTracingRegistrar;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Outbound JAX-RS requests through clients traced by the {@code ClientTracingRegistrarProvider} of the
+ * implementation, compared with an untraced client. Clients are traced with
+ * {@link ClientTracingRegistrar#configure(ClientBuilder)} or with the shared {@link ClientTracingRegistrar#feature()}.
+ * The requests are answered by a filter running after the filters of the implementation, so no connection is made.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientSpanBenchmark {
+
+    private static final String URL = "http://localhost:8080/opentracing/rest/testRegistrarServices/ok";
+
+    /**
+     * Clients shared by all benchmark threads, like the clients of an application. They are created once the
+     * container is started, so that the provider can look up the beans of the implementation.
+     */
+    @State(Scope.Benchmark)
+    public static class Clients {
+
+        public Client untraced;
+        public Client configured;
+        public Client feature;
+
+        @Setup(Level.Trial)
+        public void create(ContainerState state) {
+            untraced = answerRequests(ClientBuilder.newBuilder()).build();
+            configured = answerRequests(ClientTracingRegistrar.configure(ClientBuilder.newBuilder())).build();
+            feature = answerRequests(ClientBuilder.newBuilder()).register(ClientTracingRegistrar.feature()).build();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            untraced.close();
+            configured.close();
+            feature.close();
+        }
+    }
+
+    /**
+     * Answer every request with 200 OK instead of sending it.
+     */
+    public static class AnsweringFilter implements ClientRequestFilter {
+
+        @Override
+        public void filter(ClientRequestContext requestContext) {
+            requestContext.abortWith(Response.ok().build());
+        }
+    }
+
+    /**
+     * Configuration of a new client builder. The container is only required so that the provider can look up the
+     * beans of the implementation.
+     */
+    @Benchmark
+    public ClientBuilder configureClientBuilder(ContainerState state) {
+        return ClientTracingRegistrar.configure(ClientBuilder.newBuilder());
+    }
+
+    @Benchmark
+    public int untraced(Clients clients) {
+        return get(clients.untraced);
+    }
+
+    @Benchmark
+    public int configured(Clients clients) {
+        return get(clients.configured);
+    }
+
+    @Benchmark
+    public int feature(Clients clients) {
+        return get(clients.feature);
+    }
+
+    private static ClientBuilder answerRequests(ClientBuilder clientBuilder) {
+        return clientBuilder.register(AnsweringFilter.class, Integer.MAX_VALUE);
+    }
+
+    private static int get(Client client) {
+        try (Response response = client.target(URL).request().get()) {
+            return response.getStatus();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import jakarta.enterprise.inject.se.SeContainer;
+import jakarta.enterprise.inject.se.SeContainerInitializer;
+
+/**
+ * CDI container started once per trial, like the container of an application. The implementation on the classpath
+ * contributes its beans and interceptors, e.g. the injectable {@link io.opentracing.Tracer} and the interceptor of
+ * {@link org.eclipse.microprofile.opentracing.Traced}.
+ */
+@State(Scope.Benchmark)
+public class ContainerState {
+
+    public SeContainer container;
+
+    @Setup(Level.Trial)
+    public void start() {
+        container = SeContainerInitializer.newInstance().initialize();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        container.close();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.opentracing.Scope;
+import io.opentracing.Span;
+import io.opentracing.SpanContext;
+import io.opentracing.Tracer;
+import io.opentracing.propagation.Format;
+import io.opentracing.propagation.TextMapAdapter;
+import io.opentracing.tag.Tags;
+
+/**
+ * Tracer calls made for every inbound JAX-RS request: extract the upstream context, start the server span with the
+ * standard tags, activate it for the duration of the request and finish it with the response status. The specification
+ * defines no portable entry point for inbound requests, so this is a reference for the cost of the tracer alone and
+ * doesn't exercise an implementation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServerSpanBenchmark {
+
+    private static final String OPERATION_NAME =
+            "GET:org.eclipse.microprofile.opentracing.tck.application.TestServerWebServices.simpleTest";
+    private static final String URL = "http://localhost:8080/opentracing/rest/testServices/simpleTest";
+
+    @State(org.openjdk.jmh.annotations.Scope.Thread)
+    public static class Request {
+
+        /**
+         * Headers of an inbound request with a propagated span context.
+         */
+        public Map<String, String> headers;
+
+        @Setup
+        public void createHeaders(TracerState state) {
+            headers = new HashMap<>();
+            Span upstream = state.tracer.buildSpan("upstream").start();
+            state.tracer.inject(upstream.context(), Format.Builtin.HTTP_HEADERS, new TextMapAdapter(headers));
+            upstream.finish();
+        }
+    }
+
+    @Benchmark
+    public Span serverSpan(TracerState state, Request request) {
+        Tracer tracer = state.tracer;
+        SpanContext parent = tracer.extract(Format.Builtin.HTTP_HEADERS, new TextMapAdapter(request.headers));
+        Span span = tracer.buildSpan(OPERATION_NAME)
+                .asChildOf(parent)
+                .withTag(Tags.SPAN_KIND, Tags.SPAN_KIND_SERVER)
+                .withTag(Tags.HTTP_METHOD, "GET")
+                .withTag(Tags.HTTP_URL, URL)
+                .withTag(Tags.COMPONENT, "jaxrs")
+                .start();
+        try (Scope scope = tracer.activateSpan(span)) {
+            span.setTag(Tags.HTTP_STATUS, 200);
+        } finally {
+            span.finish();
+        }
+        return span;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.opentracing.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluation of <code>mp.opentracing.server.skip-pattern</code> combined with the always excluded MicroProfile
+ * endpoints, as done for every inbound request. The pattern is the one used by the TCK, optionally with additional
+ * alternatives which never match. It is evaluated as a single {@link Pattern} and with a compiled matcher which looks
+ * up literal paths and literal prefixes before falling back to a regular expression for the remaining alternatives.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SkipPatternBenchmark {
+
+    private static final String EXCLUDED_ENDPOINTS =
+            "/health|/metrics|/metrics/base/.*|/metrics/vendor/.*|/metrics/application/.*|/openapi";
+
+    private static final String SKIP_PATTERN = "/skipAll/.*|/testServices/skipSimple|/testServices/skipRegex/[0-9]+";
+
+    /**
+     * Number of pairs of a literal path and a literal prefix appended to the skip pattern, like the unused
+     * alternatives of the TCK.
+     */
+    @Param({"0", "100"})
+    public int unusedAlternatives;
+
+    @Param({"/testServices/simpleTest", "/testServices/skipSimple", "/testServices/skipRegex/42", "/metrics/base/cpu"})
+    public String path;
+
+    private Pattern pattern;
+
+    private CompiledMatcher compiledMatcher;
+
+    @Setup
+    public void compile() {
+        StringBuilder skipPattern = new StringBuilder(SKIP_PATTERN);
+        for (int i = 0; i < unusedAlternatives; i++) {
+            skipPattern.append("|/unused").append(i).append("/.*|/testServices/unused").append(i);
+        }
+        String combined = skipPattern + "|" + EXCLUDED_ENDPOINTS;
+        pattern = Pattern.compile(combined);
+        compiledMatcher = new CompiledMatcher(combined);
+        if (compiledMatcher.matches(path) != pattern.matcher(path).matches()) {
+            throw new IllegalStateException("Matchers disagree on " + path);
+        }
+    }
+
+    @Benchmark
+    public boolean regex() {
+        return pattern.matcher(path).matches();
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return compiledMatcher.matches(path);
+    }
+
+    /**
+     * Matcher splitting a pattern into its top-level alternatives. Literal paths are kept in a hash set, literal
+     * prefixes followed by <code>.*</code> in a trie, and the other alternatives in a single regular expression.
+     */
+    static final class CompiledMatcher {
+
+        private static final String REGEX_CHARACTERS = "\\.[]{}()*+?^$|";
+
+        private final Set<String> paths = new HashSet<>();
+
+        private final TrieNode prefixes = new TrieNode();
+
+        private final Pattern remaining;
+
+        CompiledMatcher(String skipPattern) {
+            List<String> regexAlternatives = new ArrayList<>();
+            for (String alternative : splitAlternatives(skipPattern)) {
+                String prefix = alternative.endsWith(".*") ? alternative.substring(0, alternative.length() - 2) : null;
+                if (isLiteral(alternative)) {
+                    paths.add(alternative);
+                } else if (prefix != null && isLiteral(prefix)) {
+                    prefixes.add(prefix);
+                } else {
+                    regexAlternatives.add(alternative);
+                }
+            }
+            remaining = regexAlternatives.isEmpty() ? null : Pattern.compile(String.join("|", regexAlternatives));
+        }
+
+        boolean matches(String path) {
+            return paths.contains(path) || prefixes.matchesPrefixOf(path)
+                    || remaining != null && remaining.matcher(path).matches();
+        }
+
+        private static List<String> splitAlternatives(String skipPattern) {
+            List<String> alternatives = new ArrayList<>();
+            int depth = 0;
+            int start = 0;
+            for (int i = 0; i < skipPattern.length(); i++) {
+                char c = skipPattern.charAt(i);
+                if (c == '\\') {
+                    i++;
+                } else if (c == '(' || c == '[') {
+                    depth++;
+                } else if (c == ')' || c == ']') {
+                    depth--;
+                } else if (c == '|' && depth == 0) {
+                    alternatives.add(skipPattern.substring(start, i));
+                    start = i + 1;
+                }
+            }
+            alternatives.add(skipPattern.substring(start));
+            return alternatives;
+        }
+
+        private static boolean isLiteral(String alternative) {
+            for (int i = 0; i < alternative.length(); i++) {
+                if (REGEX_CHARACTERS.indexOf(alternative.charAt(i)) >= 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class TrieNode {
+
+        private final Map<Character, TrieNode> children = new HashMap<>();
+
+        private boolean terminal;
+
+        void add(String prefix) {
+            TrieNode node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), c -> new TrieNode());
+            }
+            node.terminal = true;
+        }
+
+        boolean matchesPrefixOf(String path) {
+            TrieNode node = this;
+            for (int i = 0; i < path.length() && !node.terminal; i++) {
+                node = node.children.get(path.charAt(i));
+                if (node == null) {
+                    return false;
+                }
+            }
+            return node.terminal;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.benchmarks;
+
+import org.eclipse.microprofile.opentracing.Traced;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Bean whose methods are intercepted by the {@link Traced} interceptor of the implementation.
+ */
+@ApplicationScoped
+public class TracedBean {
+
+    @Traced
+    public String traced(String value) {
+        return value;
+    }
+
+    @Traced(samplingRate = 0.01)
+    public String sampled(String value) {
+        return value;
+    }
+
+    @Traced(samplingRate = 0.0)
+    public String neverSampled(String value) {
+        return value;
+    }
+}
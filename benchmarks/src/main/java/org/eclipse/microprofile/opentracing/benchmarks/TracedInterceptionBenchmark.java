@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Invocations of {@link TracedBean} through the CDI container, intercepted by the
+ * {@link org.eclipse.microprofile.opentracing.Traced} interceptor of the implementation, compared with calling an
+ * instance created without the container. The sampled methods have a sampling rate of 0.01 and 0.0.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TracedInterceptionBenchmark {
+
+    @State(Scope.Thread)
+    public static class Beans {
+
+        public String value = "value";
+        public TracedBean intercepted;
+        public TracedBean direct;
+
+        @Setup
+        public void select(ContainerState state) {
+            intercepted = state.container.select(TracedBean.class).get();
+            direct = new TracedBean();
+        }
+    }
+
+    @Benchmark
+    public String direct(Beans beans) {
+        return beans.direct.traced(beans.value);
+    }
+
+    @Benchmark
+    public String traced(Beans beans) {
+        return beans.intercepted.traced(beans.value);
+    }
+
+    @Benchmark
+    public String sampled(Beans beans) {
+        return beans.intercepted.sampled(beans.value);
+    }
+
+    @Benchmark
+    public String neverSampled(Beans beans) {
+        return beans.intercepted.neverSampled(beans.value);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.opentracing.Tracer;
+import io.opentracing.mock.MockTracer;
+import io.opentracing.noop.NoopTracerFactory;
+
+/**
+ * Tracer shared by all threads of {@link ServerSpanBenchmark}. The {@code noop} tracer measures the cost of the calls
+ * themselves, the {@code mock} tracer keeps finished spans in memory like the tracer required by the TCK.
+ */
+@State(Scope.Benchmark)
+public class TracerState {
+
+    @Param({"noop", "mock"})
+    public String tracerType;
+
+    public Tracer tracer;
+
+    @Setup(Level.Trial)
+    public void createTracer() {
+        switch (tracerType) {
+            case "noop" :
+                tracer = NoopTracerFactory.create();
+                break;
+            case "mock" :
+                tracer = new MockTracer();
+                break;
+            default :
+                throw new IllegalArgumentException("Unknown tracer type " + tracerType);
+        }
+    }
+
+    /**
+     * Drop spans finished by the mock tracer so that they don't accumulate over the whole trial.
+     */
+    @TearDown(Level.Iteration)
+    public void resetTracer() {
+        if (tracer instanceof MockTracer) {
+            ((MockTracer) tracer).reset();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void closeTracer() {
+        tracer.close();
+    }
+}
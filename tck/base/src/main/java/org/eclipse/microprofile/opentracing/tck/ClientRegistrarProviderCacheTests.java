@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.opentracing.tck.application.CountingClientTracingRegistrarProvider;
+import org.eclipse.microprofile.opentracing.tck.application.TestClientRegistrarWebServices;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Tests that {@link org.eclipse.microprofile.opentracing.ClientTracingRegistrar} does not look up and instantiate
+ * {@link org.eclipse.microprofile.opentracing.ClientTracingRegistrarProvider} on every call.
+ */
+public class ClientRegistrarProviderCacheTests extends OpenTracingBaseTests {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return OpenTracingBaseTests.createDeployment()
+                .addAsResource(new StringAsset(CountingClientTracingRegistrarProvider.class.getName()),
+                        CountingClientTracingRegistrarProvider.PROVIDER_RESOURCE);
+    }
+
+    /**
+     * Repeated configure calls must reuse the provider resolved by the first call. The calls are made with a context
+     * class loader which only sees the counting provider, so it is the provider that is resolved.
+     */
+    @Test
+    @RunAsClient
+    private void testProviderResolvedOnce() {
+        int first = providerInstances(1);
+        Assert.assertEquals(first, 1, "Provider instantiated " + first + " times");
+
+        int afterRepeatedCalls = providerInstances(100);
+        Assert.assertEquals(afterRepeatedCalls, first);
+    }
+
+    private int providerInstances(int configureCalls) {
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put(TestClientRegistrarWebServices.PARAM_CONFIGURE_CALLS, configureCalls);
+        Response response = executeRemoteWebServiceRaw(TestClientRegistrarWebServices.REST_SERVICE_PATH,
+                TestClientRegistrarWebServices.REST_PROVIDER_INSTANCES, queryParams, Status.OK);
+        int instances = Integer.parseInt(response.readEntity(String.class));
+        response.close();
+        return instances;
+    }
+}
@@ -19,9 +19,15 @@
 
 package org.eclipse.microprofile.opentracing.tck;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.microprofile.opentracing.tck.application.TestClientRegistrarWebServices;
 import org.eclipse.microprofile.opentracing.tck.tracer.TestSpan;
@@ -30,10 +36,14 @@ import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree.TreeNode;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.arquillian.container.test.api.RunAsClient;
 import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.SkipException;
 import org.testng.annotations.Test;
 
 import io.opentracing.tag.Tags;
 import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 
@@ -71,6 +81,87 @@ public class ClientRegistrarTests extends OpenTracingBaseTests {
         testClientRegistrar(TestClientRegistrarWebServices.REST_CLIENT_BUILDER_EXECUTOR, true);
     }
 
+    @Test
+    @RunAsClient
+    public void testSharedClientFeature() {
+        testClientRegistrar(TestClientRegistrarWebServices.REST_SHARED_CLIENT, false);
+    }
+
+    /**
+     * Send concurrent requests through the single client shared by the application and verify that each of them
+     * produces its own correctly parented client span. The outbound requests are synchronous, the feature does not
+     * configure the executor of asynchronous requests.
+     */
+    @Test
+    @RunAsClient
+    public void testSharedClientFeatureConcurrent() throws InterruptedException, ExecutionException {
+        int numberOfCalls = 200;
+        Map<String, Object> queryParams = new HashMap<>();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(20);
+        try {
+            List<Future<?>> futures = new ArrayList<>(numberOfCalls);
+            for (int i = 0; i < numberOfCalls; i++) {
+                futures.add(executorService.submit(() -> executeRemoteWebServiceRaw(
+                        TestClientRegistrarWebServices.REST_SERVICE_PATH,
+                        TestClientRegistrarWebServices.REST_SHARED_CLIENT, queryParams, Status.OK).close()));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+
+        TreeNode<TestSpan> expectedTree =
+                createExpectedTree(TestClientRegistrarWebServices.REST_SHARED_CLIENT, queryParams);
+        assertEqualRootTrees(spans.getRootSpans(), Collections.nCopies(numberOfCalls, expectedTree));
+    }
+
+    @Test
+    @RunAsClient
+    public void testClientRegistrarVirtualExecutor() {
+        testClientRegistrarVirtualExecutor(1);
+    }
+
+    /**
+     * Fan out many concurrent asynchronous requests from one endpoint on virtual threads and verify that all client
+     * spans are children of the endpoint's server span.
+     */
+    @Test
+    @RunAsClient
+    public void testClientRegistrarVirtualExecutorFanOut() {
+        testClientRegistrarVirtualExecutor(500);
+    }
+
+    private void testClientRegistrarVirtualExecutor(int requests) {
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put(TestClientRegistrarWebServices.PARAM_REQUESTS, requests);
+        String url = getWebServiceURL(TestClientRegistrarWebServices.REST_SERVICE_PATH,
+                TestClientRegistrarWebServices.REST_CLIENT_BUILDER_VIRTUAL_EXECUTOR, queryParams);
+
+        Client client = ClientBuilder.newClient();
+        try {
+            Response response = client.target(url).request().get();
+            response.close();
+            if (response.getStatus() == Status.NOT_IMPLEMENTED.getStatusCode()) {
+                throw new SkipException("Virtual threads are not supported by the runtime");
+            }
+            Assert.assertEquals(response.getStatus(), Status.OK.getStatusCode());
+        } finally {
+            client.close();
+        }
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+
+        TestSpanTree expectedTree = new TestSpanTree(
+                createExpectedTree(TestClientRegistrarWebServices.REST_CLIENT_BUILDER_VIRTUAL_EXECUTOR, queryParams,
+                        requests));
+        assertEqualTrees(spans, expectedTree);
+    }
+
     public void testClientRegistrar(String path, boolean async) {
         Map<String, Object> queryParams = new HashMap<>();
         if (async) {
@@ -82,57 +173,73 @@ public class ClientRegistrarTests extends OpenTracingBaseTests {
 
         TestSpanTree spans = executeRemoteWebServiceTracerTree();
 
-        TestSpanTree expectedTree = new TestSpanTree(
-                new TreeNode<>(
-                        new TestSpan(
-                                getOperationName(
-                                        Tags.SPAN_KIND_SERVER,
-                                        HttpMethod.GET,
-                                        TestClientRegistrarWebServices.class,
-                                        getEndpointMethod(TestClientRegistrarWebServices.class, path)),
-                                getExpectedSpanTags(
-                                        Tags.SPAN_KIND_SERVER,
-                                        HttpMethod.GET,
-                                        TestClientRegistrarWebServices.REST_SERVICE_PATH,
-                                        path,
-                                        queryParams,
-                                        Status.OK.getStatusCode(),
-                                        JAXRS_COMPONENT),
-                                Collections.emptyList()),
-                        new TreeNode<>(
-                                new TestSpan(
-                                        getOperationName(
-                                                Tags.SPAN_KIND_CLIENT,
-                                                HttpMethod.GET,
-                                                TestClientRegistrarWebServices.class,
-                                                getEndpointMethod(TestClientRegistrarWebServices.class,
-                                                        TestClientRegistrarWebServices.REST_OK)),
-                                        getExpectedSpanTags(
-                                                Tags.SPAN_KIND_CLIENT,
-                                                HttpMethod.GET,
-                                                TestClientRegistrarWebServices.REST_SERVICE_PATH,
-                                                TestClientRegistrarWebServices.REST_OK,
-                                                null,
-                                                Status.OK.getStatusCode(),
-                                                JAXRS_COMPONENT),
-                                        Collections.emptyList()),
-                                new TreeNode<>(
-                                        new TestSpan(
-                                                getOperationName(
-                                                        Tags.SPAN_KIND_SERVER,
-                                                        HttpMethod.GET,
-                                                        TestClientRegistrarWebServices.class,
-                                                        getEndpointMethod(TestClientRegistrarWebServices.class,
-                                                                TestClientRegistrarWebServices.REST_OK)),
-                                                getExpectedSpanTags(
-                                                        Tags.SPAN_KIND_SERVER,
-                                                        HttpMethod.GET,
-                                                        TestClientRegistrarWebServices.REST_SERVICE_PATH,
-                                                        TestClientRegistrarWebServices.REST_OK,
-                                                        null,
-                                                        Status.OK.getStatusCode(),
-                                                        JAXRS_COMPONENT),
-                                                Collections.emptyList())))));
+        TestSpanTree expectedTree = new TestSpanTree(createExpectedTree(path, queryParams));
         assertEqualTrees(spans, expectedTree);
     }
+
+    private TreeNode<TestSpan> createExpectedTree(String path, Map<String, Object> queryParams) {
+        return createExpectedTree(path, queryParams, 1);
+    }
+
+    /**
+     * Create the expected tree of an endpoint sending {@code requests} outbound requests to
+     * {@link TestClientRegistrarWebServices#REST_OK}.
+     */
+    private TreeNode<TestSpan> createExpectedTree(String path, Map<String, Object> queryParams, int requests) {
+        @SuppressWarnings("unchecked")
+        TreeNode<TestSpan>[] children = (TreeNode<TestSpan>[]) new TreeNode<?>[requests];
+        for (int i = 0; i < requests; i++) {
+            children[i] = new TreeNode<>(
+                    new TestSpan(
+                            getOperationName(
+                                    Tags.SPAN_KIND_CLIENT,
+                                    HttpMethod.GET,
+                                    TestClientRegistrarWebServices.class,
+                                    getEndpointMethod(TestClientRegistrarWebServices.class,
+                                            TestClientRegistrarWebServices.REST_OK)),
+                            getExpectedSpanTags(
+                                    Tags.SPAN_KIND_CLIENT,
+                                    HttpMethod.GET,
+                                    TestClientRegistrarWebServices.REST_SERVICE_PATH,
+                                    TestClientRegistrarWebServices.REST_OK,
+                                    null,
+                                    Status.OK.getStatusCode(),
+                                    JAXRS_COMPONENT),
+                            Collections.emptyList()),
+                    new TreeNode<>(
+                            new TestSpan(
+                                    getOperationName(
+                                            Tags.SPAN_KIND_SERVER,
+                                            HttpMethod.GET,
+                                            TestClientRegistrarWebServices.class,
+                                            getEndpointMethod(TestClientRegistrarWebServices.class,
+                                                    TestClientRegistrarWebServices.REST_OK)),
+                                    getExpectedSpanTags(
+                                            Tags.SPAN_KIND_SERVER,
+                                            HttpMethod.GET,
+                                            TestClientRegistrarWebServices.REST_SERVICE_PATH,
+                                            TestClientRegistrarWebServices.REST_OK,
+                                            null,
+                                            Status.OK.getStatusCode(),
+                                            JAXRS_COMPONENT),
+                                    Collections.emptyList())));
+        }
+        return new TreeNode<>(
+                new TestSpan(
+                        getOperationName(
+                                Tags.SPAN_KIND_SERVER,
+                                HttpMethod.GET,
+                                TestClientRegistrarWebServices.class,
+                                getEndpointMethod(TestClientRegistrarWebServices.class, path)),
+                        getExpectedSpanTags(
+                                Tags.SPAN_KIND_SERVER,
+                                HttpMethod.GET,
+                                TestClientRegistrarWebServices.REST_SERVICE_PATH,
+                                path,
+                                queryParams,
+                                Status.OK.getStatusCode(),
+                                JAXRS_COMPONENT),
+                        Collections.emptyList()),
+                children);
+    }
 }
@@ -19,14 +19,19 @@
 
 package org.eclipse.microprofile.opentracing.tck;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -37,6 +42,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.microprofile.opentracing.tck.application.ApplicationUtils;
+import org.eclipse.microprofile.opentracing.tck.application.TestAnnotatedClass;
+import org.eclipse.microprofile.opentracing.tck.application.TestMinDurationAnnotatedClass;
 import org.eclipse.microprofile.opentracing.tck.application.TestServerWebServices;
 import org.eclipse.microprofile.opentracing.tck.application.TracerWebService;
 import org.eclipse.microprofile.opentracing.tck.tracer.ConsumableTree;
@@ -48,6 +55,7 @@ import org.jboss.arquillian.test.api.ArquillianResource;
 import org.jboss.arquillian.testng.Arquillian;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
 import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
 import org.jboss.shrinkwrap.api.spec.WebArchive;
 import org.testng.Assert;
 import org.testng.Reporter;
@@ -67,6 +75,17 @@ import jakarta.ws.rs.core.Response.Status;
  */
 public abstract class OpenTracingBaseTests extends Arquillian {
     public static final String JAXRS_COMPONENT = "jaxrs";
+
+    /**
+     * Number of finished spans pulled from the tracer web service per request.
+     */
+    private static final int TRACER_PAGE_SIZE = 500;
+
+    /**
+     * Maximum number of characters of a span tree printed by {@link #debug(String, TestSpanTree)}.
+     */
+    private static final int DEBUG_TREE_MAX_LENGTH = 16 * 1024;
+
     private final AtomicInteger idCounter = new AtomicInteger(0);
 
     /**
@@ -89,6 +108,35 @@ public abstract class OpenTracingBaseTests extends Arquillian {
         return war;
     }
 
+    /**
+     * Deploy the apps to test with the given MicroProfile Config properties.
+     *
+     * @param config the configuration properties of the deployment
+     * @return the Deployed apps
+     */
+    public static WebArchive createDeployment(Map<String, String> config) {
+        return withConfiguration(createDeployment(), config);
+    }
+
+    /**
+     * Add MicroProfile Config properties to a deployment as {@code META-INF/microprofile-config.properties}.
+     *
+     * @param war the deployment
+     * @param config the configuration properties of the deployment
+     * @return the deployment
+     */
+    public static WebArchive withConfiguration(WebArchive war, Map<String, String> config) {
+        Properties properties = new Properties();
+        properties.putAll(config);
+        StringWriter writer = new StringWriter();
+        try {
+            properties.store(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return war.addAsResource(new StringAsset(writer.toString()), "META-INF/microprofile-config.properties");
+    }
+
     /**
      * Before each test method, clear the tracer.
      *
@@ -191,10 +239,19 @@ public abstract class OpenTracingBaseTests extends Arquillian {
      * @return TestSpanTree
      */
     protected TestSpanTree executeRemoteWebServiceTracerTree() {
-        TestSpanTree testSpanTree = executeRemoteWebServiceRaw(
-                TracerWebService.REST_TRACER_SERVICE_PATH, TracerWebService.REST_GET_TRACER, Status.OK)
-                        .readEntity(TestTracer.class).spanTree();
-        debug("Tracer returned " + testSpanTree);
+        TestTracer testTracer = new TestTracer();
+        Map<String, Object> queryParams = new HashMap<>();
+        queryParams.put(TracerWebService.PARAM_LIMIT, TRACER_PAGE_SIZE);
+        List<TestSpan> page;
+        do {
+            queryParams.put(TracerWebService.PARAM_OFFSET, testTracer.getSpans().size());
+            page = executeRemoteWebServiceRaw(TracerWebService.REST_TRACER_SERVICE_PATH,
+                    TracerWebService.REST_GET_TRACER, queryParams, Status.OK)
+                            .readEntity(TestTracer.class).getSpans();
+            testTracer.getSpans().addAll(page);
+        } while (page.size() == TRACER_PAGE_SIZE);
+        TestSpanTree testSpanTree = testTracer.spanTree();
+        debug("Tracer returned ", testSpanTree);
         return testSpanTree;
     }
 
@@ -220,7 +277,69 @@ public abstract class OpenTracingBaseTests extends Arquillian {
      */
     protected void assertEqualTrees(ConsumableTree<TestSpan> returnedTree,
             ConsumableTree<TestSpan> expectedTree) {
+        filterTree(returnedTree);
+        Assert.assertEquals(returnedTree, expectedTree);
+    }
+
+    /**
+     * Assert that the returned root spans match the expected trees regardless of their order. Like
+     * {@link #assertEqualTrees(ConsumableTree, ConsumableTree)}, error related keys are removed from the returned
+     * trees. Trees are matched by their structural hash, so large numbers of root spans are compared in linear time.
+     *
+     * @param returnedRoots
+     *            The returned root spans from the web service.
+     * @param expectedRoots
+     *            The simulated trees that we expect.
+     */
+    protected void assertEqualRootTrees(List<TreeNode<TestSpan>> returnedRoots,
+            List<TreeNode<TestSpan>> expectedRoots) {
+        Assert.assertEquals(returnedRoots.size(), expectedRoots.size(), "Number of root spans");
 
+        Map<TreeNode<TestSpan>, Integer> unmatched = new HashMap<>();
+        for (TreeNode<TestSpan> expectedRoot : expectedRoots) {
+            unmatched.merge(expectedRoot, 1, Integer::sum);
+        }
+        for (TreeNode<TestSpan> returnedRoot : returnedRoots) {
+            filterTree(returnedRoot);
+            Integer count = unmatched.get(returnedRoot);
+            if (count == null) {
+                Assert.fail("Returned span tree doesn't match any expected tree: " + returnedRoot);
+            }
+            if (count == 1) {
+                unmatched.remove(returnedRoot);
+            } else {
+                unmatched.put(returnedRoot, count - 1);
+            }
+        }
+    }
+
+    /**
+     * Assert that the tree consists of {@code numberOfCalls} root spans without children, all of them with the same
+     * operation name.
+     *
+     * @param spans
+     *            The returned tree from the web service.
+     * @param numberOfCalls
+     *            Expected number of root spans.
+     * @param expectedOperationName
+     *            Expected operation name of every root span.
+     */
+    protected void assertOperationNames(TestSpanTree spans, int numberOfCalls, String expectedOperationName) {
+        Assert.assertEquals(spans.getRootSpans().size(), numberOfCalls);
+        for (TreeNode<TestSpan> rootSpan : spans.getRootSpans()) {
+            Assert.assertTrue(rootSpan.getChildren().isEmpty());
+            Assert.assertEquals(rootSpan.getData().getCachedOperationName(), expectedOperationName);
+        }
+    }
+
+    /**
+     * Remove the tags and log entries from {@code returnedTree} which are not compared by
+     * {@link #assertEqualTrees(ConsumableTree, ConsumableTree)}.
+     *
+     * @param returnedTree
+     *            The returned tree from the web service.
+     */
+    private void filterTree(ConsumableTree<TestSpan> returnedTree) {
         // It's okay if the returnedTree has tags other than the ones we
         // want to compare, so just remove those
         returnedTree.visitTree(span -> {
@@ -237,7 +356,6 @@ public abstract class OpenTracingBaseTests extends Arquillian {
         // want to compare, so just remove those
         returnedTree.visitTree(span -> span.getLogEntries()
                 .removeIf(logEntry -> true));
-        Assert.assertEquals(returnedTree, expectedTree);
     }
 
     /**
@@ -252,6 +370,8 @@ public abstract class OpenTracingBaseTests extends Arquillian {
      */
     protected void assertEqualErrorTrees(ConsumableTree<TestSpan> returnedTree,
             ConsumableTree<TestSpan> expectedTree) {
+        Map<String, Object> expectedErrorLogs = getExpectedErrorLogs();
+        Set<String> presenceOnlyKeys = getPresenceOnlyErrorLogKeys();
 
         // It's okay if the returnedTree has tags other than the ones we
         // want to compare, so just remove those
@@ -267,12 +387,20 @@ public abstract class OpenTracingBaseTests extends Arquillian {
         });
 
         // It's okay if the returnedTree has log entries other than the ones we
-        // want to compare, so just remove those
+        // want to compare, so just remove those. Presence only fields take the
+        // expected value, so that only their presence is compared.
         returnedTree.visitTree(span -> {
             if (!Tags.SPAN_KIND_SERVER.equals(span.getTags().get(Tags.SPAN_KIND.getKey()))) {
-                span.getLogEntries().forEach(stringMap -> {
-                    stringMap.keySet()
-                            .removeIf(key -> !key.equals("event") && !key.equals("error.object"));
+                span.getLogEntries().replaceAll(logFields -> {
+                    Map<String, Object> comparedFields = new HashMap<>();
+                    logFields.forEach((key, value) -> {
+                        if (presenceOnlyKeys.contains(key)) {
+                            comparedFields.put(key, expectedErrorLogs.get(key));
+                        } else if (expectedErrorLogs.containsKey(key)) {
+                            comparedFields.put(key, value);
+                        }
+                    });
+                    return comparedFields;
                 });
             }
         });
@@ -290,6 +418,72 @@ public abstract class OpenTracingBaseTests extends Arquillian {
         Reporter.log(message);
     }
 
+    /**
+     * Print a span tree as debug message. Only the first {@link #DEBUG_TREE_MAX_LENGTH} characters of the JSON are
+     * written, the serialization of larger trees is stopped there.
+     *
+     * @param prefix
+     *            Text preceding the tree.
+     * @param tree
+     *            The span tree.
+     */
+    static void debug(String prefix, TestSpanTree tree) {
+        BoundedAppendable out = new BoundedAppendable(prefix, DEBUG_TREE_MAX_LENGTH);
+        try {
+            tree.writeJSON(out);
+        } catch (IOException e) {
+            out.markTruncated();
+        }
+        Reporter.log(out.toString());
+    }
+
+    /**
+     * {@link Appendable} which fails with an {@link IOException} once its capacity is exceeded, which stops the
+     * writer.
+     */
+    private static final class BoundedAppendable implements Appendable {
+        private final StringBuilder sb;
+        private final int maxLength;
+
+        private BoundedAppendable(String prefix, int maxLength) {
+            this.sb = new StringBuilder(prefix);
+            this.maxLength = prefix.length() + maxLength;
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            int length = Math.min(end - start, maxLength - sb.length());
+            sb.append(csq, start, start + length);
+            if (length < end - start) {
+                throw new IOException("Debug output truncated");
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            if (sb.length() >= maxLength) {
+                throw new IOException("Debug output truncated");
+            }
+            sb.append(c);
+            return this;
+        }
+
+        private void markTruncated() {
+            sb.append("...");
+        }
+
+        @Override
+        public String toString() {
+            return sb.toString();
+        }
+    }
+
     /**
      * Get a random integer.
      *
@@ -367,12 +561,55 @@ public abstract class OpenTracingBaseTests extends Arquillian {
         Map<String, Object> tags = new HashMap<>();
         tags.put(Tags.SPAN_KIND.getKey(), spanKind);
         tags.put(Tags.HTTP_METHOD.getKey(), httpMethod);
-        tags.put(Tags.HTTP_URL.getKey(), getWebServiceURL(service, relativePath, queryParameters));
+        tags.put(Tags.HTTP_URL.getKey(), getExpectedHttpUrl(spanKind, service, relativePath, queryParameters));
         tags.put(Tags.HTTP_STATUS.getKey(), new BigDecimal(httpStatus));
         tags.put(Tags.COMPONENT.getKey(), component);
         return tags;
     }
 
+    /**
+     * Create the expected value of {@link Tags#HTTP_URL}. Overridden by the tests of the other
+     * {@code mp.opentracing.http-url.mode} values.
+     *
+     * @param spanKind
+     *            Value for {@link Tags#SPAN_KIND}
+     * @param service
+     *            First parameter to {@link #getWebServiceURL(String, String)}
+     * @param relativePath
+     *            Second parameter to {@link #getWebServiceURL(String, String)}
+     * @param queryParameters
+     *            Query parameters.
+     * @return The full URL of the request with the default {@code full} mode.
+     */
+    protected String getExpectedHttpUrl(String spanKind, String service, String relativePath,
+            Map<String, Object> queryParameters) {
+        return getWebServiceURL(service, relativePath, queryParameters);
+    }
+
+    /**
+     * Create the log fields expected for the example exception of {@link ApplicationUtils} thrown by a traced method.
+     * Only these keys are compared by {@link #assertEqualErrorTrees(ConsumableTree, ConsumableTree)}. The value of
+     * the {@code error.object} log field is not compared.
+     *
+     * @return Log fields of the error with the default {@code full} error capture mode.
+     */
+    protected Map<String, Object> getExpectedErrorLogs() {
+        Map<String, Object> logs = new HashMap<>();
+        logs.put("event", Tags.ERROR.getKey());
+        logs.put("error.object", ApplicationUtils.createExampleRuntimeException());
+        return logs;
+    }
+
+    /**
+     * Keys of {@link #getExpectedErrorLogs()} whose value differs between runs, e.g. a hash, so that
+     * {@link #assertEqualErrorTrees(ConsumableTree, ConsumableTree)} only checks that they are logged.
+     *
+     * @return Log field keys whose value is not compared, none by default.
+     */
+    protected Set<String> getPresenceOnlyErrorLogKeys() {
+        return Collections.emptySet();
+    }
+
     /**
      * Create a tags collection for expected span tags with an error.
      * 
@@ -419,6 +656,175 @@ public abstract class OpenTracingBaseTests extends Arquillian {
         assertEqualTrees(spans, expectedTree);
     }
 
+    /**
+     * Common code for handling error and exception tests.
+     * 
+     * @param method
+     *            method of the REST endpoint.
+     */
+    protected void assertErrorTest(Method method) {
+        String path = method.getAnnotation(Path.class).value();
+        Response response = executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                path, Status.INTERNAL_SERVER_ERROR);
+        response.close();
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+
+        Map<String, Object> expectedTags = getExpectedSpanTagsForError(path, Tags.SPAN_KIND_SERVER);
+
+        TestSpanTree expectedTree = new TestSpanTree(
+                new TreeNode<>(
+                        new TestSpan(
+                                getOperationName(
+                                        Tags.SPAN_KIND_SERVER,
+                                        HttpMethod.GET,
+                                        TestServerWebServices.class,
+                                        method),
+                                expectedTags,
+                                Collections.emptyList())));
+        assertEqualTrees(spans, expectedTree);
+    }
+
+    /**
+     * Common code for handling annotation exception tests, the error of the traced method is compared by
+     * {@link #assertEqualErrorTrees(ConsumableTree, ConsumableTree)}.
+     */
+    protected void assertAnnotationExceptionTest() {
+        Response response = executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                TestServerWebServices.REST_ANNOTATION_EXCEPTION, Status.OK);
+        response.close();
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+
+        Map<String, Object> tags = new HashMap<>();
+        tags.put(Tags.ERROR.getKey(), true);
+        Map<String, Object> logs = getExpectedErrorLogs();
+
+        TestSpanTree expectedTree = new TestSpanTree(
+                new TreeNode<>(
+                        new TestSpan(
+                                getOperationName(
+                                        Tags.SPAN_KIND_SERVER,
+                                        HttpMethod.GET,
+                                        TestServerWebServices.class,
+                                        getEndpointMethod(TestServerWebServices.class,
+                                                TestServerWebServices.REST_ANNOTATION_EXCEPTION)),
+                                getExpectedSpanTags(
+                                        Tags.SPAN_KIND_SERVER,
+                                        HttpMethod.GET,
+                                        TestServerWebServices.REST_TEST_SERVICE_PATH,
+                                        TestServerWebServices.REST_ANNOTATION_EXCEPTION,
+                                        null,
+                                        Status.OK.getStatusCode(),
+                                        JAXRS_COMPONENT),
+                                Collections.emptyList()),
+                        new TreeNode<>(
+                                new TestSpan(
+                                        TestAnnotatedClass.class.getName()
+                                                + ".annotatedClassMethodImplicitlyTracedWithException",
+                                        tags,
+                                        Arrays.asList(logs)))));
+        assertEqualErrorTrees(spans, expectedTree);
+    }
+
+    /**
+     * Execute the exception endpoints several times and assert that none of the log entries of the resulting spans
+     * contains one of the given keys. Used by the error capture mode tests to check that the exception isn't retained.
+     *
+     * @param invocations
+     *            How many times each endpoint is executed.
+     * @param forbiddenLogKeys
+     *            Log field keys which must not be logged.
+     * @return The returned tree from the web service.
+     */
+    protected TestSpanTree executeExceptionsWithoutLogKeys(int invocations, String... forbiddenLogKeys) {
+        for (int i = 0; i < invocations; i++) {
+            executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                    TestServerWebServices.REST_EXCEPTION, Status.INTERNAL_SERVER_ERROR).close();
+            executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                    TestServerWebServices.REST_ANNOTATION_EXCEPTION, Status.OK).close();
+        }
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+        Assert.assertEquals(spans.getRootSpans().size(), 2 * invocations);
+        spans.visitTree(span -> {
+            for (Map<String, ?> logFields : span.getLogEntries()) {
+                for (String key : forbiddenLogKeys) {
+                    Assert.assertFalse(logFields.containsKey(key),
+                            "Span " + span + " logged " + key + " with error capture mode configured");
+                }
+            }
+        });
+        return spans;
+    }
+
+    /**
+     * Invoke the minimum span duration endpoint and assert that only spans which are slow enough, failed, or have no
+     * minimum duration are reported.
+     *
+     * @param globalMinDuration
+     *            Whether {@code mp.opentracing.traced.min-duration} is configured to
+     *            {@link TestMinDurationAnnotatedClass#MIN_DURATION_MICROS}.
+     */
+    protected void testMinDuration(boolean globalMinDuration) {
+        Response response = executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                TestServerWebServices.REST_MIN_DURATION, Status.OK);
+        response.close();
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+
+        String slowOperationName = TestMinDurationAnnotatedClass.class.getName() + ".slow";
+        spans.visitTree(span -> {
+            if (span.getCachedOperationName().equals(slowOperationName)) {
+                long durationMicros = span.getFinishMicros() - span.getStartMicros();
+                Assert.assertTrue(durationMicros >= TestMinDurationAnnotatedClass.MIN_DURATION_MICROS,
+                        "Span " + span + " is shorter than the minimum duration: " + durationMicros + "us");
+            }
+        });
+
+        Map<String, Object> errorTags = new HashMap<>();
+        errorTags.put(Tags.ERROR.getKey(), true);
+        Map<String, Object> errorLogs = getExpectedErrorLogs();
+
+        TreeNode<TestSpan> serverSpan = new TreeNode<>(
+                new TestSpan(
+                        getOperationName(
+                                Tags.SPAN_KIND_SERVER,
+                                HttpMethod.GET,
+                                TestServerWebServices.class,
+                                getEndpointMethod(TestServerWebServices.class,
+                                        TestServerWebServices.REST_MIN_DURATION)),
+                        getExpectedSpanTags(
+                                Tags.SPAN_KIND_SERVER,
+                                HttpMethod.GET,
+                                TestServerWebServices.REST_TEST_SERVICE_PATH,
+                                TestServerWebServices.REST_MIN_DURATION,
+                                null,
+                                Status.OK.getStatusCode(),
+                                JAXRS_COMPONENT),
+                        Collections.emptyList()));
+        serverSpan.addChild(new TreeNode<>(
+                new TestSpan(slowOperationName, Collections.emptyMap(), Collections.emptyList())));
+        serverSpan.addChild(new TreeNode<>(
+                new TestSpan(
+                        TestMinDurationAnnotatedClass.class.getName() + ".fastWithException",
+                        errorTags,
+                        Arrays.asList(errorLogs))));
+        serverSpan.addChild(new TreeNode<>(
+                new TestSpan(
+                        TestMinDurationAnnotatedClass.class.getName() + ".fastAlwaysKept",
+                        Collections.emptyMap(),
+                        Collections.emptyList())));
+        if (!globalMinDuration) {
+            serverSpan.addChild(new TreeNode<>(
+                    new TestSpan(
+                            TestMinDurationAnnotatedClass.class.getName() + ".fastWithGlobalMinDuration",
+                            Collections.emptyMap(),
+                            Collections.emptyList())));
+        }
+        assertEqualErrorTrees(spans, new TestSpanTree(serverSpan));
+    }
+
     /**
      * @param numberOfCalls
      *            Number of total web requests.
@@ -463,39 +869,13 @@ public abstract class OpenTracingBaseTests extends Arquillian {
 
         TestSpanTree spans = executeRemoteWebServiceTracerTree();
 
-        List<TreeNode<TestSpan>> rootSpans = spans.getRootSpans();
-
-        // If this assertion fails, it means that the number of returned
-        // root spans doesn't equal the number of web service calls.
-        Assert.assertEquals(rootSpans.size(), numberOfCalls);
-
-        for (TreeNode<TestSpan> rootSpan : rootSpans) {
-
-            // Extract the unique ID from the root span's URL:
-            String url = (String) rootSpan.getData().getTags().get(Tags.HTTP_URL.getKey());
-            int i = url.indexOf(TestServerWebServices.PARAM_UNIQUE_ID);
-            Assert.assertNotEquals(i, -1);
-            String uniqueIdStr = url.substring(i + TestServerWebServices.PARAM_UNIQUE_ID.length() + 1);
-            i = uniqueIdStr.indexOf('&');
-            if (i != -1) {
-                uniqueIdStr = uniqueIdStr.substring(0, i);
-            }
-            int uniqueId = Integer.parseInt(uniqueIdStr);
-
-            // If this assertion fails, it means that the unique ID
-            // in the root span URL doesn't match any of the
-            // unique IDs that we sent in the requests above.
-            boolean removeResult = uniqueIds.remove(uniqueId);
-
-            if (!removeResult) {
-                debug("Unique ID " + uniqueId + " not found in request list. Span: " + rootSpan);
-            }
-
-            Assert.assertTrue(removeResult);
-
-            TreeNode<TestSpan> expectedTree = createExpectedNestTree(path, uniqueId, nestBreadth, failNest, async);
-            assertEqualTrees(rootSpan, expectedTree);
+        // Every request carries its unique ID in the URL of the root span,
+        // so each returned root span must match exactly one expected tree.
+        List<TreeNode<TestSpan>> expectedRoots = new ArrayList<>(numberOfCalls);
+        for (int uniqueId : uniqueIds) {
+            expectedRoots.add(createExpectedNestTree(path, uniqueId, nestBreadth, failNest, async));
         }
+        assertEqualRootTrees(spans.getRootSpans(), expectedRoots);
     }
 
     /**
@@ -562,7 +942,7 @@ public abstract class OpenTracingBaseTests extends Arquillian {
      *            Whether to execute nested requests asynchronously.
      * @return The expected span tree.
      */
-    private TreeNode<TestSpan> createExpectedNestTree(String path, int uniqueId, int nestBreadth, boolean failNest,
+    protected TreeNode<TestSpan> createExpectedNestTree(String path, int uniqueId, int nestBreadth, boolean failNest,
             boolean async) {
         @SuppressWarnings("unchecked")
         TreeNode<TestSpan>[] children = (TreeNode<TestSpan>[]) new TreeNode<?>[nestBreadth];
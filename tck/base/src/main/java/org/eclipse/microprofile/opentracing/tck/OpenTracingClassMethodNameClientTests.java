@@ -21,48 +21,46 @@ package org.eclipse.microprofile.opentracing.tck;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 
-import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.eclipse.microprofile.opentracing.tck.application.TestServerWebServices;
 import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
 import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.opentracing.tag.Tags;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.Response.Status;
 
 /**
  * @author Pavol Loffay
  */
 public class OpenTracingClassMethodNameClientTests extends OpenTracingClientBaseTests {
 
-    public static class TestConfiguration implements ConfigSource {
-        private Map<String, String> propMap = new HashMap<>();
-        {
-            propMap.put("mp.opentracing.server.operation-name-provider", "class-method");
-        }
-
-        @Override
-        public Map<String, String> getProperties() {
-            return propMap;
-        }
-
-        @Override
-        public String getValue(String s) {
-            return propMap.get(s);
-        }
-
-        @Override
-        public String getName() {
-            return this.getClass().getName();
-        }
-
-        @Override
-        public Set<String> getPropertyNames() {
-            return getProperties().keySet();
-        }
-    }
-
     @Deployment
     public static WebArchive createDeployment() {
-        return OpenTracingBaseTests.createDeployment()
-                .addAsServiceProvider(ConfigSource.class, TestConfiguration.class);
+        Map<String, String> config = new HashMap<>();
+        config.put("mp.opentracing.server.operation-name-provider", "class-method");
+        return OpenTracingBaseTests.createDeployment(config);
     }
 
+    /**
+     * Test that the operation name of a server span doesn't change across many requests to the same endpoint.
+     */
+    @Test
+    @RunAsClient
+    private void testOperationNameStable() {
+        int numberOfCalls = 1000;
+        for (int i = 0; i < numberOfCalls; i++) {
+            executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                    TestServerWebServices.REST_SIMPLE_TEST, Status.OK).close();
+        }
+
+        String expectedOperationName = getOperationName(
+                Tags.SPAN_KIND_SERVER,
+                HttpMethod.GET,
+                TestServerWebServices.class,
+                getEndpointMethod(TestServerWebServices.class, TestServerWebServices.REST_SIMPLE_TEST));
+        assertOperationNames(executeRemoteWebServiceTracerTree(), numberOfCalls, expectedOperationName);
+    }
 }
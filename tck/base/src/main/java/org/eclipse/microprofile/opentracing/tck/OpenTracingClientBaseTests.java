@@ -19,28 +19,39 @@
 
 package org.eclipse.microprofile.opentracing.tck;
 
-import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
+import org.eclipse.microprofile.opentracing.tck.application.TestAggregatedAnnotatedClass;
 import org.eclipse.microprofile.opentracing.tck.application.TestAnnotatedClass;
 import org.eclipse.microprofile.opentracing.tck.application.TestAnnotatedClassWithOperationName;
 import org.eclipse.microprofile.opentracing.tck.application.TestAnnotatedMethods;
+import org.eclipse.microprofile.opentracing.tck.application.TestAsyncAnnotatedClass;
 import org.eclipse.microprofile.opentracing.tck.application.TestDisabledAnnotatedClass;
+import org.eclipse.microprofile.opentracing.tck.application.TestSampledAnnotatedClass;
 import org.eclipse.microprofile.opentracing.tck.application.TestServerWebServices;
 import org.eclipse.microprofile.opentracing.tck.application.TestServerWebServicesWithOperationName;
 import org.eclipse.microprofile.opentracing.tck.tracer.TestSpan;
 import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree;
 import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree.TreeNode;
 import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import io.opentracing.tag.Tags;
 import jakarta.ws.rs.HttpMethod;
-import jakarta.ws.rs.Path;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.WebTarget;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 
@@ -51,6 +62,14 @@ import jakarta.ws.rs.core.Response.Status;
  */
 public abstract class OpenTracingClientBaseTests extends OpenTracingBaseTests {
 
+    /**
+     * Tags of aggregate spans, see {@code Traced#aggregate()}.
+     */
+    private static final String AGGREGATE_COUNT_TAG = "aggregate.count";
+    private static final String AGGREGATE_TOTAL_MICROS_TAG = "aggregate.total_micros";
+    private static final String AGGREGATE_MIN_MICROS_TAG = "aggregate.min_micros";
+    private static final String AGGREGATE_MAX_MICROS_TAG = "aggregate.max_micros";
+
     /**
      * Test that server endpoint is adding standard tags
      */
@@ -151,6 +170,207 @@ public abstract class OpenTracingClientBaseTests extends OpenTracingBaseTests {
         assertEqualTrees(spans, expectedTree);
     }
 
+    /**
+     * Test the sampling rate of Traced annotations.
+     */
+    @Test
+    @RunAsClient
+    private void testSamplingRate() {
+        int invocations = 1000;
+        Map<String, Object> queryParameters = new HashMap<>();
+        queryParameters.put(TestServerWebServices.PARAM_INVOCATIONS, invocations);
+        Response response = executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                TestServerWebServices.REST_SAMPLED, queryParameters, Status.OK);
+        response.close();
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+
+        // Unsampled invocations must not create orphaned spans.
+        Assert.assertEquals(spans.getRootSpans().size(), 1);
+        TreeNode<TestSpan> rootSpan = spans.getRootSpans().get(0);
+        Assert.assertEquals(rootSpan.getData().getCachedOperationName(),
+                getOperationName(
+                        Tags.SPAN_KIND_SERVER,
+                        HttpMethod.GET,
+                        TestServerWebServices.class,
+                        getEndpointMethod(TestServerWebServices.class, TestServerWebServices.REST_SAMPLED)));
+
+        Map<String, Integer> spanCounts = new HashMap<>();
+        for (TreeNode<TestSpan> child : rootSpan.getChildren()) {
+            Assert.assertTrue(child.getChildren().isEmpty());
+            spanCounts.merge(child.getData().getCachedOperationName(), 1, Integer::sum);
+        }
+
+        String operationPrefix = TestSampledAnnotatedClass.class.getName() + ".";
+        Assert.assertNull(spanCounts.get(operationPrefix + "neverSampled"));
+        Assert.assertEquals(spanCounts.get(operationPrefix + "alwaysSampled"), Integer.valueOf(invocations));
+
+        // The tolerance is more than nine standard deviations of the binomial distribution.
+        int expected = (int) (invocations * TestSampledAnnotatedClass.CLASS_SAMPLING_RATE);
+        int sampled = spanCounts.getOrDefault(operationPrefix + "sampledWithClassRate", 0);
+        Assert.assertTrue(Math.abs(sampled - expected) <= 150,
+                "Expected about " + expected + " sampled spans but got " + sampled);
+    }
+
+    /**
+     * Test Traced annotations on methods returning a CompletionStage. The spans must last until the returned stages
+     * complete and errors must be logged when they complete exceptionally.
+     */
+    @Test
+    @RunAsClient
+    private void testAsyncAnnotations() {
+        int invocations = 50;
+        Map<String, Object> queryParameters = new HashMap<>();
+        queryParameters.put(TestServerWebServices.PARAM_INVOCATIONS, invocations);
+        Response response = executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                TestServerWebServices.REST_ASYNC_ANNOTATIONS, queryParameters, Status.OK);
+        response.close();
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+
+        long minDurationMicros = TimeUnit.MILLISECONDS.toMicros(TestAsyncAnnotatedClass.COMPLETION_DELAY_MILLIS);
+        spans.visitTree(span -> {
+            if (span.getCachedOperationName().startsWith(TestAsyncAnnotatedClass.class.getName())) {
+                long durationMicros = span.getFinishMicros() - span.getStartMicros();
+                Assert.assertTrue(durationMicros >= minDurationMicros,
+                        "Span " + span + " finished before the returned stage completed: " + durationMicros + "us");
+            }
+        });
+
+        Map<String, Object> errorTags = new HashMap<>();
+        errorTags.put(Tags.ERROR.getKey(), true);
+        Map<String, Object> errorLogs = getExpectedErrorLogs();
+
+        @SuppressWarnings("unchecked")
+        TreeNode<TestSpan>[] children = (TreeNode<TestSpan>[]) new TreeNode<?>[2 * invocations];
+        for (int i = 0; i < invocations; i++) {
+            children[2 * i] = new TreeNode<>(
+                    new TestSpan(
+                            TestAsyncAnnotatedClass.class.getName() + ".completeLater",
+                            Collections.emptyMap(),
+                            Collections.emptyList()));
+            children[2 * i + 1] = new TreeNode<>(
+                    new TestSpan(
+                            TestAsyncAnnotatedClass.class.getName() + ".failLater",
+                            errorTags,
+                            Arrays.asList(errorLogs)));
+        }
+        TestSpanTree expectedTree = new TestSpanTree(
+                new TreeNode<>(
+                        new TestSpan(
+                                getOperationName(
+                                        Tags.SPAN_KIND_SERVER,
+                                        HttpMethod.GET,
+                                        TestServerWebServices.class,
+                                        getEndpointMethod(TestServerWebServices.class,
+                                                TestServerWebServices.REST_ASYNC_ANNOTATIONS)),
+                                getExpectedSpanTags(
+                                        Tags.SPAN_KIND_SERVER,
+                                        HttpMethod.GET,
+                                        TestServerWebServices.REST_TEST_SERVICE_PATH,
+                                        TestServerWebServices.REST_ASYNC_ANNOTATIONS,
+                                        queryParameters,
+                                        Status.OK.getStatusCode(),
+                                        JAXRS_COMPONENT),
+                                Collections.emptyList()),
+                        children));
+        assertEqualErrorTrees(spans, expectedTree);
+    }
+
+    /**
+     * Test that Traced methods faster than their minimum duration are discarded unless they fail.
+     */
+    @Test
+    @RunAsClient
+    private void testMinDuration() {
+        testMinDuration(false);
+    }
+
+    /**
+     * Test that invocations of an aggregated Traced method in nested loops are collapsed into one span per parent span,
+     * which carries the invocation statistics and only the first error.
+     */
+    @Test
+    @RunAsClient
+    private void testAggregate() {
+        int invocations = 10000;
+        int batches = 5;
+        Map<String, Object> queryParameters = new HashMap<>();
+        queryParameters.put(TestServerWebServices.PARAM_INVOCATIONS, invocations);
+        queryParameters.put(TestServerWebServices.PARAM_BATCHES, batches);
+        Response response = executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                TestServerWebServices.REST_AGGREGATE, queryParameters, Status.OK);
+        response.close();
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+
+        String aggregateOperationName = TestAggregatedAnnotatedClass.class.getName() + ".lookup";
+        spans.visitTree(span -> {
+            if (span.getCachedOperationName().equals(aggregateOperationName)) {
+                Map<String, Object> tags = span.getTags();
+                Assert.assertEquals(getLongTag(span, AGGREGATE_COUNT_TAG), invocations, "Span " + span);
+                long total = getLongTag(span, AGGREGATE_TOTAL_MICROS_TAG);
+                long min = getLongTag(span, AGGREGATE_MIN_MICROS_TAG);
+                long max = getLongTag(span, AGGREGATE_MAX_MICROS_TAG);
+                Assert.assertTrue(0 <= min && min <= max && max <= total
+                        && total <= span.getFinishMicros() - span.getStartMicros(),
+                        "Inconsistent aggregate tags " + tags + " of span " + span);
+            }
+        });
+
+        Map<String, Object> errorTags = new HashMap<>();
+        errorTags.put(Tags.ERROR.getKey(), true);
+        Map<String, Object> errorLogs = getExpectedErrorLogs();
+
+        TreeNode<TestSpan> serverSpan = new TreeNode<>(
+                new TestSpan(
+                        getOperationName(
+                                Tags.SPAN_KIND_SERVER,
+                                HttpMethod.GET,
+                                TestServerWebServices.class,
+                                getEndpointMethod(TestServerWebServices.class,
+                                        TestServerWebServices.REST_AGGREGATE)),
+                        getExpectedSpanTags(
+                                Tags.SPAN_KIND_SERVER,
+                                HttpMethod.GET,
+                                TestServerWebServices.REST_TEST_SERVICE_PATH,
+                                TestServerWebServices.REST_AGGREGATE,
+                                queryParameters,
+                                Status.OK.getStatusCode(),
+                                JAXRS_COMPONENT),
+                        Collections.emptyList()));
+        for (int batch = 0; batch < batches; batch++) {
+            serverSpan.addChild(new TreeNode<>(
+                    new TestSpan(
+                            TestServerWebServices.REST_LOCAL_SPAN,
+                            getExpectedLocalSpanTags(),
+                            Collections.emptyList()),
+                    new TreeNode<>(
+                            new TestSpan(
+                                    aggregateOperationName,
+                                    errorTags,
+                                    Arrays.asList(errorLogs)))));
+        }
+        serverSpan.addChild(new TreeNode<>(
+                new TestSpan(aggregateOperationName, Collections.emptyMap(), Collections.emptyList())));
+        assertEqualErrorTrees(spans, new TestSpanTree(serverSpan));
+    }
+
+    /**
+     * Get a numeric tag of a span.
+     *
+     * @param span
+     *            The span.
+     * @param key
+     *            The tag key.
+     * @return The tag value.
+     */
+    private long getLongTag(TestSpan span, String key) {
+        Object value = span.getTags().get(key);
+        Assert.assertTrue(value instanceof Number, "Missing numeric tag " + key + " on span " + span);
+        return ((Number) value).longValue();
+    }
+
     /**
      * Test a web service endpoint that shouldn't create a span.
      * 
@@ -295,77 +515,155 @@ public abstract class OpenTracingClientBaseTests extends OpenTracingBaseTests {
     }
 
     /**
-     * Common code for handling error and exception tests.
-     * 
-     * @param method
-     *            method of the REST endpoint.
+     * Test many concurrent requests to an endpoint returning a CompletionStage. Every server span must finish only
+     * once the stage completed and must be the parent of the local span created on the completing thread.
+     *
+     * @throws InterruptedException
+     *             Problem executing web service.
+     * @throws ExecutionException
+     *             Thread pool problem.
      */
-    private void assertErrorTest(Method method) {
-        String path = method.getAnnotation(Path.class).value();
-        Response response = executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
-                path, Status.INTERNAL_SERVER_ERROR);
-        response.close();
+    @Test
+    @RunAsClient
+    private void testCompletionStage() throws InterruptedException, ExecutionException {
+        int numberOfCalls = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(50);
+        try {
+            List<Future<?>> futures = new ArrayList<>(numberOfCalls);
+            for (int i = 0; i < numberOfCalls; i++) {
+                futures.add(executorService.submit(() -> {
+                    Response response = executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                            TestServerWebServices.REST_COMPLETION_STAGE, Status.OK);
+                    response.close();
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
 
         TestSpanTree spans = executeRemoteWebServiceTracerTree();
 
-        Map<String, Object> expectedTags = getExpectedSpanTagsForError(path, Tags.SPAN_KIND_SERVER);
+        long minDurationMicros = TimeUnit.MILLISECONDS.toMicros(TestServerWebServices.COMPLETION_STAGE_DELAY_MILLIS);
+        for (TreeNode<TestSpan> rootSpan : spans.getRootSpans()) {
+            TestSpan serverSpan = rootSpan.getData();
+            long durationMicros = serverSpan.getFinishMicros() - serverSpan.getStartMicros();
+            Assert.assertTrue(durationMicros >= minDurationMicros,
+                    "Span " + serverSpan + " finished before the returned stage completed: " + durationMicros + "us");
+        }
+        assertServerSpansOutliveChildren(spans);
+
+        assertEqualRootTrees(spans.getRootSpans(), Collections.nCopies(numberOfCalls,
+                createExpectedLocalSpanTree(TestServerWebServices.REST_COMPLETION_STAGE)));
+    }
 
-        TestSpanTree expectedTree = new TestSpanTree(
-                new TreeNode<>(
-                        new TestSpan(
-                                getOperationName(
-                                        Tags.SPAN_KIND_SERVER,
-                                        HttpMethod.GET,
-                                        TestServerWebServices.class,
-                                        method),
-                                expectedTags,
-                                Collections.emptyList())));
-        assertEqualTrees(spans, expectedTree);
+    /**
+     * Test an endpoint returning a CompletionStage that completes exceptionally.
+     */
+    @Test
+    @RunAsClient
+    private void testCompletionStageException() throws InterruptedException {
+        assertErrorTest(getEndpointMethod(TestServerWebServices.class,
+                TestServerWebServices.REST_COMPLETION_STAGE_EXCEPTION));
     }
 
     /**
-     * Test annotation exception web service.
+     * Test thousands of outstanding suspended requests which are parked and resumed later from a different thread.
+     * Every server span must finish only when its request is resumed and must be the parent of the local span created
+     * on the resuming thread.
+     *
+     * @throws InterruptedException
+     *             Problem executing web service.
+     * @throws ExecutionException
+     *             Problem executing web service.
      */
     @Test
     @RunAsClient
-    private void testAnnotationException() throws InterruptedException {
-        Response response = executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
-                TestServerWebServices.REST_ANNOTATION_EXCEPTION, Status.OK);
-        response.close();
+    private void testAsyncParked() throws InterruptedException, ExecutionException {
+        int numberOfCalls = 2000;
+        Client client = ClientBuilder.newClient();
+        try {
+            WebTarget target = client.target(getWebServiceURL(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                    TestServerWebServices.REST_ASYNC_PARKED));
+            List<Future<Response>> futures = new ArrayList<>(numberOfCalls);
+            for (int i = 0; i < numberOfCalls; i++) {
+                futures.add(target.request().async().get());
+            }
+            for (Future<Response> future : futures) {
+                Response response = future.get();
+                try {
+                    Assert.assertEquals(response.getStatus(), Status.OK.getStatusCode(),
+                            response.readEntity(String.class));
+                } finally {
+                    response.close();
+                }
+            }
+        } finally {
+            client.close();
+        }
 
         TestSpanTree spans = executeRemoteWebServiceTracerTree();
+        assertServerSpansOutliveChildren(spans);
+        assertEqualRootTrees(spans.getRootSpans(), Collections.nCopies(numberOfCalls,
+                createExpectedLocalSpanTree(TestServerWebServices.REST_ASYNC_PARKED)));
+    }
 
-        Map<String, Object> tags = new HashMap<>();
-        tags.put(Tags.ERROR.getKey(), true);
-        Map<String, Object> logs = new HashMap<>();
-        logs.put("event", Tags.ERROR.getKey());
-        logs.put("error.object", new RuntimeException());
+    /**
+     * Assert that no root span finished before any of its direct children.
+     *
+     * @param spans
+     *            The returned tree from the web service.
+     */
+    private void assertServerSpansOutliveChildren(TestSpanTree spans) {
+        for (TreeNode<TestSpan> rootSpan : spans.getRootSpans()) {
+            TestSpan serverSpan = rootSpan.getData();
+            for (TreeNode<TestSpan> child : rootSpan.getChildren()) {
+                Assert.assertTrue(serverSpan.getFinishMicros() >= child.getData().getFinishMicros(),
+                        "Span " + serverSpan + " finished before its child " + child.getData());
+            }
+        }
+    }
 
-        TestSpanTree expectedTree = new TestSpanTree(
+    /**
+     * Create the expected tree of a server span of {@link TestServerWebServices} with a single local span child.
+     *
+     * @param path
+     *            Endpoint path which creates the local span.
+     * @return Expected root span.
+     */
+    private TreeNode<TestSpan> createExpectedLocalSpanTree(String path) {
+        return new TreeNode<>(
+                new TestSpan(
+                        getOperationName(
+                                Tags.SPAN_KIND_SERVER,
+                                HttpMethod.GET,
+                                TestServerWebServices.class,
+                                getEndpointMethod(TestServerWebServices.class, path)),
+                        getExpectedSpanTags(
+                                Tags.SPAN_KIND_SERVER,
+                                HttpMethod.GET,
+                                TestServerWebServices.REST_TEST_SERVICE_PATH,
+                                path,
+                                null,
+                                Status.OK.getStatusCode(),
+                                JAXRS_COMPONENT),
+                        Collections.emptyList()),
                 new TreeNode<>(
                         new TestSpan(
-                                getOperationName(
-                                        Tags.SPAN_KIND_SERVER,
-                                        HttpMethod.GET,
-                                        TestServerWebServices.class,
-                                        getEndpointMethod(TestServerWebServices.class,
-                                                TestServerWebServices.REST_ANNOTATION_EXCEPTION)),
-                                getExpectedSpanTags(
-                                        Tags.SPAN_KIND_SERVER,
-                                        HttpMethod.GET,
-                                        TestServerWebServices.REST_TEST_SERVICE_PATH,
-                                        TestServerWebServices.REST_ANNOTATION_EXCEPTION,
-                                        null,
-                                        Status.OK.getStatusCode(),
-                                        JAXRS_COMPONENT),
-                                Collections.emptyList()),
-                        new TreeNode<>(
-                                new TestSpan(
-                                        TestAnnotatedClass.class.getName()
-                                                + ".annotatedClassMethodImplicitlyTracedWithException",
-                                        tags,
-                                        Arrays.asList(logs)))));
-        assertEqualErrorTrees(spans, expectedTree);
+                                TestServerWebServices.REST_LOCAL_SPAN,
+                                getExpectedLocalSpanTags(),
+                                Collections.emptyList())));
+    }
+
+    /**
+     * Test annotation exception web service.
+     */
+    @Test
+    @RunAsClient
+    private void testAnnotationException() throws InterruptedException {
+        assertAnnotationExceptionTest();
     }
 
     /**
@@ -443,6 +741,73 @@ public abstract class OpenTracingClientBaseTests extends OpenTracingBaseTests {
                 async);
     }
 
+    /**
+     * Same as testMultithreadedNestedSpansAsync but with a wide fan-out of nested requests, whose spans finish in any
+     * order.
+     * 
+     * @throws InterruptedException
+     *             Problem executing web service.
+     * @throws ExecutionException
+     *             Thread pool problem.
+     */
+    @Test
+    @RunAsClient
+    private void testMultithreadedNestedSpansHighBreadthAsync() throws InterruptedException, ExecutionException {
+        int numberOfCalls = 20;
+        int nestDepth = 1;
+        int nestBreadth = 50;
+        boolean failNest = false;
+        boolean async = true;
+
+        testMultithreadedNestedSpans(TestServerWebServices.REST_NESTED, numberOfCalls, nestDepth, nestBreadth, failNest,
+                async);
+    }
+
+    /**
+     * Same as testMultithreadedNestedSpans but the nested requests are executed on threads of an executor wrapped by
+     * {@link org.eclipse.microprofile.opentracing.TracedExecutors}.
+     * 
+     * @throws InterruptedException
+     *             Problem executing web service.
+     * @throws ExecutionException
+     *             Thread pool problem.
+     */
+    @Test
+    @RunAsClient
+    private void testMultithreadedNestedSpansTracedExecutor() throws InterruptedException, ExecutionException {
+        int numberOfCalls = 100;
+        int nestDepth = 1;
+        int nestBreadth = 2;
+        boolean failNest = false;
+        boolean async = false;
+
+        testMultithreadedNestedSpans(TestServerWebServices.REST_NESTED_TRACED_EXECUTOR, numberOfCalls, nestDepth,
+                nestBreadth, failNest, async);
+    }
+
+    /**
+     * Same as testMultithreadedNestedSpansTracedExecutor but the nested requests are scheduled with a delay on a
+     * scheduled executor.
+     * 
+     * @throws InterruptedException
+     *             Problem executing web service.
+     * @throws ExecutionException
+     *             Thread pool problem.
+     */
+    @Test
+    @RunAsClient
+    private void testMultithreadedNestedSpansTracedScheduledExecutor()
+            throws InterruptedException, ExecutionException {
+        int numberOfCalls = 100;
+        int nestDepth = 1;
+        int nestBreadth = 2;
+        boolean failNest = false;
+        boolean async = false;
+
+        testMultithreadedNestedSpans(TestServerWebServices.REST_NESTED_TRACED_SCHEDULED_EXECUTOR, numberOfCalls,
+                nestDepth, nestBreadth, failNest, async);
+    }
+
     /**
      * Test that implementation exposes active span
      */
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.opentracing.tck.application.TestClientRegistrarWebServices;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpan;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree.TreeNode;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.opentracing.tag.Tags;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Tests with a client skip pattern. Outbound requests whose URI matches the pattern must neither create a client span
+ * nor inject the span context, all other outbound requests are traced as usual.
+ */
+public class OpenTracingClientSkipPatternTests extends OpenTracingBaseTests {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        Map<String, String> config = new HashMap<>();
+        config.put("mp.opentracing.client.skip-pattern",
+                ".*/" + TestClientRegistrarWebServices.REST_SERVICE_PATH + "/"
+                        + TestClientRegistrarWebServices.REST_SKIPPED + "|.*/unused/.*");
+        return OpenTracingBaseTests.createDeployment(config);
+    }
+
+    /**
+     * Test that an outbound request which doesn't match the skip pattern is traced.
+     */
+    @Test
+    @RunAsClient
+    private void testClientNotSkipped() {
+        Response response = executeRemoteWebServiceRaw(TestClientRegistrarWebServices.REST_SERVICE_PATH,
+                TestClientRegistrarWebServices.REST_CLIENT_BUILDER, Status.OK);
+        response.close();
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+
+        TestSpanTree expectedTree = new TestSpanTree(
+                createExpectedServerSpan(TestClientRegistrarWebServices.REST_CLIENT_BUILDER, null,
+                        new TreeNode<>(
+                                new TestSpan(
+                                        getOperationName(
+                                                Tags.SPAN_KIND_CLIENT,
+                                                HttpMethod.GET,
+                                                TestClientRegistrarWebServices.class,
+                                                getEndpointMethod(TestClientRegistrarWebServices.class,
+                                                        TestClientRegistrarWebServices.REST_OK)),
+                                        getExpectedSpanTags(
+                                                Tags.SPAN_KIND_CLIENT,
+                                                HttpMethod.GET,
+                                                TestClientRegistrarWebServices.REST_SERVICE_PATH,
+                                                TestClientRegistrarWebServices.REST_OK,
+                                                null,
+                                                Status.OK.getStatusCode(),
+                                                JAXRS_COMPONENT),
+                                        Collections.emptyList()),
+                                createExpectedServerSpan(TestClientRegistrarWebServices.REST_OK, null))));
+        assertEqualTrees(spans, expectedTree);
+    }
+
+    @Test
+    @RunAsClient
+    private void testClientSkip() {
+        testClientSkip(false, false);
+    }
+
+    @Test
+    @RunAsClient
+    private void testClientSkipAsync() {
+        testClientSkip(true, false);
+    }
+
+    @Test
+    @RunAsClient
+    private void testClientSkipSharedClient() {
+        testClientSkip(false, true);
+    }
+
+    @Test
+    @RunAsClient
+    private void testClientSkipSharedClientAsync() {
+        testClientSkip(true, true);
+    }
+
+    /**
+     * Execute the endpoint sending a skipped outbound request. Without a client span and without an injected span
+     * context, the server span of the skipped endpoint is a root span of its own.
+     *
+     * @param async
+     *            Whether the outbound request is asynchronous.
+     * @param shared
+     *            Whether the outbound request uses the client shared by the application.
+     */
+    private void testClientSkip(boolean async, boolean shared) {
+        Map<String, Object> queryParams = new HashMap<>();
+        if (async) {
+            queryParams.put("async", "true");
+        }
+        if (shared) {
+            queryParams.put(TestClientRegistrarWebServices.PARAM_SHARED, "true");
+        }
+        Response response = executeRemoteWebServiceRaw(TestClientRegistrarWebServices.REST_SERVICE_PATH,
+                TestClientRegistrarWebServices.REST_CLIENT_SKIP, queryParams, Status.OK);
+        response.close();
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+
+        TestSpanTree expectedTree = new TestSpanTree(
+                createExpectedServerSpan(TestClientRegistrarWebServices.REST_CLIENT_SKIP, queryParams),
+                createExpectedServerSpan(TestClientRegistrarWebServices.REST_SKIPPED, null));
+        assertEqualTrees(spans, expectedTree);
+    }
+
+    @SafeVarargs
+    private final TreeNode<TestSpan> createExpectedServerSpan(String path, Map<String, Object> queryParams,
+            TreeNode<TestSpan>... children) {
+        return new TreeNode<>(
+                new TestSpan(
+                        getOperationName(
+                                Tags.SPAN_KIND_SERVER,
+                                HttpMethod.GET,
+                                TestClientRegistrarWebServices.class,
+                                getEndpointMethod(TestClientRegistrarWebServices.class, path)),
+                        getExpectedSpanTags(
+                                Tags.SPAN_KIND_SERVER,
+                                HttpMethod.GET,
+                                TestClientRegistrarWebServices.REST_SERVICE_PATH,
+                                path,
+                                queryParams,
+                                Status.OK.getStatusCode(),
+                                JAXRS_COMPONENT),
+                        Collections.emptyList()),
+                children);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.opentracing.tck.application.TestOperationNameProvider;
+import org.eclipse.microprofile.opentracing.tck.application.TestServerWebServices;
+import org.eclipse.microprofile.opentracing.tck.application.WildcardClassService;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpan;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree.TreeNode;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.opentracing.tag.Tags;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Tests with an application supplied {@link org.eclipse.microprofile.opentracing.OperationNameProvider}. Only server
+ * span names change, so the suite checks server spans of plain and nested requests instead of rerunning the client
+ * suite.
+ */
+public class OpenTracingCustomOperationNameTests extends OpenTracingBaseTests {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        Map<String, String> config = new HashMap<>();
+        config.put("mp.opentracing.server.operation-name-provider", TestOperationNameProvider.class.getName());
+        return OpenTracingBaseTests.createDeployment(config);
+    }
+
+    @Override
+    protected String getOperationName(String spanKind, String httpMethod, Class<?> clazz, Method method) {
+        if (spanKind.equals(Tags.SPAN_KIND_SERVER)) {
+            return TestOperationNameProvider.operationNameOf(httpMethod, clazz, method);
+        }
+        return super.getOperationName(spanKind, httpMethod, clazz, method);
+    }
+
+    /**
+     * Test the server span name of a simple request.
+     */
+    @Test
+    @RunAsClient
+    private void testSimple() {
+        executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                TestServerWebServices.REST_SIMPLE_TEST, Status.OK).close();
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+
+        TestSpanTree expectedTree = new TestSpanTree(
+                new TreeNode<>(
+                        new TestSpan(
+                                getOperationName(
+                                        Tags.SPAN_KIND_SERVER,
+                                        HttpMethod.GET,
+                                        TestServerWebServices.class,
+                                        getEndpointMethod(TestServerWebServices.class,
+                                                TestServerWebServices.REST_SIMPLE_TEST)),
+                                getExpectedSpanTags(
+                                        Tags.SPAN_KIND_SERVER,
+                                        HttpMethod.GET,
+                                        TestServerWebServices.REST_TEST_SERVICE_PATH,
+                                        TestServerWebServices.REST_SIMPLE_TEST,
+                                        null,
+                                        Status.OK.getStatusCode(),
+                                        JAXRS_COMPONENT),
+                                Collections.emptyList())));
+        assertEqualTrees(spans, expectedTree);
+    }
+
+    /**
+     * Test the server span names of a request making nested requests.
+     */
+    @Test
+    @RunAsClient
+    private void testNestedSpans() {
+        testNestedSpans(TestServerWebServices.REST_NESTED, 1, 2, getRandomNumber(), false, false);
+    }
+
+    /**
+     * Test that the operation name of a resource method is computed at most once, however many requests with
+     * different path parameters are made to it.
+     */
+    @Test
+    @RunAsClient
+    private void testOperationNameComputedOnce() {
+        int numberOfCalls = 1000;
+        for (int i = 0; i < numberOfCalls; i++) {
+            executeRemoteWebServiceRaw("wildcard/" + i + "/foo", "getFoo/name" + i, Status.OK).close();
+        }
+
+        String expectedOperationName = getOperationName(
+                Tags.SPAN_KIND_SERVER,
+                HttpMethod.GET,
+                WildcardClassService.class,
+                getEndpointMethod(WildcardClassService.class, WildcardClassService.REST_FOO_PATH));
+        assertOperationNames(executeRemoteWebServiceTracerTree(), numberOfCalls, expectedOperationName);
+
+        Response response = executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                TestServerWebServices.REST_OPERATION_NAME_CALLS, Status.OK);
+        int maxCalls = Integer.parseInt(response.readEntity(String.class));
+        response.close();
+        Assert.assertTrue(maxCalls <= 1, "Operation name of a resource method computed " + maxCalls + " times");
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.opentracing.tck.application.AbortingRequestFilter;
+import org.eclipse.microprofile.opentracing.tck.application.TestServerWebServices;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpan;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree.TreeNode;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.opentracing.tag.Tags;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Tests that server spans of requests completed with one of the configured HTTP statuses are dropped.
+ */
+public class OpenTracingDropStatusTests extends OpenTracingBaseTests {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        Map<String, String> config = new HashMap<>();
+        config.put("mp.opentracing.server.drop-status", "401,404,429");
+        return OpenTracingBaseTests.createDeployment(config);
+    }
+
+    /**
+     * Test that no spans are recorded for requests completed with a dropped status.
+     */
+    @Test
+    @RunAsClient
+    private void testDroppedStatus() {
+        int numberOfCalls = 100;
+        Status[] droppedStatuses = {Status.UNAUTHORIZED, Status.NOT_FOUND, Status.TOO_MANY_REQUESTS};
+        for (int i = 0; i < numberOfCalls; i++) {
+            for (Status status : droppedStatuses) {
+                executeStatus(status);
+            }
+        }
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+        Assert.assertTrue(spans.getRootSpans().isEmpty(), "Unexpected spans: " + spans);
+    }
+
+    /**
+     * Test that no spans are recorded for requests whose status is known before a resource method is invoked: requests
+     * to a path matching no resource method and requests aborted by a request filter.
+     */
+    @Test
+    @RunAsClient
+    private void testDroppedStatusWithoutResourceMethod() {
+        int numberOfCalls = 100;
+        for (int i = 0; i < numberOfCalls; i++) {
+            executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH, "unmatched" + i,
+                    Status.NOT_FOUND).close();
+            executeAborted(Status.UNAUTHORIZED);
+            executeAborted(Status.TOO_MANY_REQUESTS);
+        }
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+        Assert.assertTrue(spans.getRootSpans().isEmpty(), "Unexpected spans: " + spans);
+    }
+
+    /**
+     * Test that requests completed with other statuses are still traced.
+     */
+    @Test
+    @RunAsClient
+    private void testNotDroppedStatus() {
+        executeStatus(Status.UNAUTHORIZED);
+        executeStatus(Status.OK);
+        executeStatus(Status.FORBIDDEN);
+        executeStatus(Status.NOT_FOUND);
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+
+        TestSpanTree expectedTree = new TestSpanTree(
+                new TreeNode<>(getExpectedStatusSpan(Status.OK)),
+                new TreeNode<>(getExpectedStatusSpan(Status.FORBIDDEN)));
+        assertEqualTrees(spans, expectedTree);
+    }
+
+    private void executeAborted(Status status) {
+        Map<String, Object> queryParameters = new HashMap<>();
+        queryParameters.put(AbortingRequestFilter.PARAM_ABORT_STATUS, status.getStatusCode());
+        executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                TestServerWebServices.REST_SIMPLE_TEST, queryParameters, status).close();
+    }
+
+    private void executeStatus(Status status) {
+        executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                TestServerWebServices.REST_STATUS, getStatusQueryParameters(status), status).close();
+    }
+
+    private TestSpan getExpectedStatusSpan(Status status) {
+        return new TestSpan(
+                getOperationName(
+                        Tags.SPAN_KIND_SERVER,
+                        HttpMethod.GET,
+                        TestServerWebServices.class,
+                        getEndpointMethod(TestServerWebServices.class, TestServerWebServices.REST_STATUS)),
+                getExpectedSpanTags(
+                        Tags.SPAN_KIND_SERVER,
+                        HttpMethod.GET,
+                        TestServerWebServices.REST_TEST_SERVICE_PATH,
+                        TestServerWebServices.REST_STATUS,
+                        getStatusQueryParameters(status),
+                        status.getStatusCode(),
+                        JAXRS_COMPONENT),
+                Collections.emptyList());
+    }
+
+    private static Map<String, Object> getStatusQueryParameters(Status status) {
+        Map<String, Object> queryParameters = new HashMap<>();
+        queryParameters.put(TestServerWebServices.PARAM_STATUS, status.getStatusCode());
+        return queryParameters;
+    }
+}
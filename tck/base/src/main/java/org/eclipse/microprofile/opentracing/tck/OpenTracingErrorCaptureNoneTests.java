@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.opentracing.tck.application.TestServerWebServices;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.opentracing.tag.Tags;
+
+/**
+ * Tests with the {@code none} error capture mode. Errors are only marked by the error tag and event, without any
+ * data of the exception.
+ */
+public class OpenTracingErrorCaptureNoneTests extends OpenTracingBaseTests {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        Map<String, String> config = new HashMap<>();
+        config.put("mp.opentracing.error.capture", "none");
+        return OpenTracingBaseTests.createDeployment(config);
+    }
+
+    @Override
+    protected Map<String, Object> getExpectedErrorLogs() {
+        Map<String, Object> logs = new HashMap<>();
+        logs.put("event", Tags.ERROR.getKey());
+        return logs;
+    }
+
+    /**
+     * Test error web service.
+     */
+    @Test
+    @RunAsClient
+    private void testError() {
+        assertErrorTest(getEndpointMethod(TestServerWebServices.class, TestServerWebServices.REST_ERROR));
+    }
+
+    /**
+     * Test exception web service.
+     */
+    @Test
+    @RunAsClient
+    private void testException() {
+        assertErrorTest(getEndpointMethod(TestServerWebServices.class, TestServerWebServices.REST_EXCEPTION));
+    }
+
+    /**
+     * Test that the error of a traced method is logged with the fields of the error capture mode.
+     */
+    @Test
+    @RunAsClient
+    private void testAnnotationException() {
+        assertAnnotationExceptionTest();
+    }
+
+    /**
+     * Test a web service call that makes nested calls with a client failure.
+     */
+    @Test
+    @RunAsClient
+    private void testNestedSpansWithClientFailure() {
+        testNestedSpans(TestServerWebServices.REST_NESTED, 1, 2, getRandomNumber(), true, false);
+    }
+
+    /**
+     * Test that no data of the exception is logged.
+     */
+    @Test
+    @RunAsClient
+    private void testExceptionNone() {
+        executeExceptionsWithoutLogKeys(10, "error.object", "error.kind", "message", "stack", "error.stack_hash");
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.opentracing.tck.application.ApplicationUtils;
+import org.eclipse.microprofile.opentracing.tck.application.TestAnnotatedClass;
+import org.eclipse.microprofile.opentracing.tck.application.TestServerWebServices;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.opentracing.tag.Tags;
+
+/**
+ * Tests with the {@code summary} error capture mode. Errors are logged with the exception class, message and a stack
+ * hash instead of the exception instance.
+ */
+public class OpenTracingErrorCaptureSummaryTests extends OpenTracingBaseTests {
+
+    /**
+     * Log field with the hash of the stack trace, which differs between implementations.
+     */
+    private static final String STACK_HASH_LOG_KEY = "error.stack_hash";
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        Map<String, String> config = new HashMap<>();
+        config.put("mp.opentracing.error.capture", "summary");
+        return OpenTracingBaseTests.createDeployment(config);
+    }
+
+    @Override
+    protected Map<String, Object> getExpectedErrorLogs() {
+        RuntimeException exception = ApplicationUtils.createExampleRuntimeException();
+        Map<String, Object> logs = new HashMap<>();
+        logs.put("event", Tags.ERROR.getKey());
+        logs.put("error.kind", exception.getClass().getName());
+        logs.put("message", exception.getMessage());
+        logs.put(STACK_HASH_LOG_KEY, "stack hash");
+        return logs;
+    }
+
+    @Override
+    protected Set<String> getPresenceOnlyErrorLogKeys() {
+        return Collections.singleton(STACK_HASH_LOG_KEY);
+    }
+
+    /**
+     * Test error web service.
+     */
+    @Test
+    @RunAsClient
+    private void testError() {
+        assertErrorTest(getEndpointMethod(TestServerWebServices.class, TestServerWebServices.REST_ERROR));
+    }
+
+    /**
+     * Test exception web service.
+     */
+    @Test
+    @RunAsClient
+    private void testException() {
+        assertErrorTest(getEndpointMethod(TestServerWebServices.class, TestServerWebServices.REST_EXCEPTION));
+    }
+
+    /**
+     * Test that the error of a traced method is logged with the fields of the error capture mode.
+     */
+    @Test
+    @RunAsClient
+    private void testAnnotationException() {
+        assertAnnotationExceptionTest();
+    }
+
+    /**
+     * Test a web service call that makes nested calls with a client failure.
+     */
+    @Test
+    @RunAsClient
+    private void testNestedSpansWithClientFailure() {
+        testNestedSpans(TestServerWebServices.REST_NESTED, 1, 2, getRandomNumber(), true, false);
+    }
+
+    /**
+     * Test that the exception isn't retained and that the same failure yields the same stack hash every time.
+     */
+    @Test
+    @RunAsClient
+    private void testExceptionSummary() {
+        int invocations = 10;
+        TestSpanTree spans = executeExceptionsWithoutLogKeys(invocations, "error.object", "stack");
+
+        String operationName =
+                TestAnnotatedClass.class.getName() + ".annotatedClassMethodImplicitlyTracedWithException";
+        Set<Object> stackHashes = new HashSet<>();
+        spans.visitTree(span -> {
+            if (span.getCachedOperationName().equals(operationName)) {
+                Assert.assertEquals(span.getLogEntries().size(), 1, "Span " + span);
+                Object stackHash = span.getLogEntries().get(0).get(STACK_HASH_LOG_KEY);
+                Assert.assertTrue(stackHash instanceof String && !((String) stackHash).isEmpty(),
+                        "Missing stack hash on span " + span);
+                stackHashes.add(stackHash);
+            }
+        });
+        Assert.assertEquals(stackHashes.size(), 1, "Stack hashes of the same failure differ: " + stackHashes);
+    }
+}
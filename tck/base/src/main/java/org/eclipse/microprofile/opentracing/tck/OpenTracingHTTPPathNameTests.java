@@ -23,9 +23,7 @@ import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 
-import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.opentracing.tck.application.WildcardClassService;
 import org.eclipse.microprofile.opentracing.tck.tracer.TestSpan;
 import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree;
@@ -46,38 +44,11 @@ import jakarta.ws.rs.core.Response.Status;
  */
 public class OpenTracingHTTPPathNameTests extends OpenTracingClientBaseTests {
 
-    public static class TestConfiguration implements ConfigSource {
-        private Map<String, String> propMap = new HashMap<>();
-
-        {
-            propMap.put("mp.opentracing.server.operation-name-provider", "http-path");
-        }
-
-        @Override
-        public Map<String, String> getProperties() {
-            return propMap;
-        }
-
-        @Override
-        public String getValue(String s) {
-            return propMap.get(s);
-        }
-
-        @Override
-        public String getName() {
-            return this.getClass().getName();
-        }
-
-        @Override
-        public Set<String> getPropertyNames() {
-            return getProperties().keySet();
-        }
-    }
-
     @Deployment
     public static WebArchive createDeployment() {
-        return OpenTracingBaseTests.createDeployment()
-                .addAsServiceProvider(ConfigSource.class, TestConfiguration.class);
+        Map<String, String> config = new HashMap<>();
+        config.put("mp.opentracing.server.operation-name-provider", "http-path");
+        return OpenTracingBaseTests.createDeployment(config);
     }
 
     @Override
@@ -139,6 +110,25 @@ public class OpenTracingHTTPPathNameTests extends OpenTracingClientBaseTests {
         assertEqualTrees(spans, expectedTree);
     }
 
+    /**
+     * Test that requests with different path parameters share the operation name of the resource method.
+     */
+    @Test
+    @RunAsClient
+    private void testWildcardOperationNameStable() {
+        int numberOfCalls = 1000;
+        for (int i = 0; i < numberOfCalls; i++) {
+            executeRemoteWebServiceRaw("wildcard/" + i + "/foo", "getFoo/name" + i, Status.OK).close();
+        }
+
+        String expectedOperationName = getOperationName(
+                Tags.SPAN_KIND_SERVER,
+                HttpMethod.GET,
+                WildcardClassService.class,
+                getEndpointMethod(WildcardClassService.class, WildcardClassService.REST_FOO_PATH));
+        assertOperationNames(executeRemoteWebServiceTracerTree(), numberOfCalls, expectedOperationName);
+    }
+
     /**
      * Test that server endpoint is adding standard tags
      */
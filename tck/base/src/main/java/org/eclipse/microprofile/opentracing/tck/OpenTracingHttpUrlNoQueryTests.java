@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.opentracing.tck.application.TestServerWebServices;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * Tests with the {@code no-query} HTTP URL mode. {@code Tags.HTTP_URL} of server and client spans doesn't contain the
+ * query string.
+ */
+public class OpenTracingHttpUrlNoQueryTests extends OpenTracingBaseTests {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        Map<String, String> config = new HashMap<>();
+        config.put("mp.opentracing.http-url.mode", "no-query");
+        return OpenTracingBaseTests.createDeployment(config);
+    }
+
+    @Override
+    protected String getExpectedHttpUrl(String spanKind, String service, String relativePath,
+            Map<String, Object> queryParameters) {
+        return getWebServiceURL(service, relativePath);
+    }
+
+    /**
+     * Test the URLs of the server and client spans of a request making nested requests with query parameters.
+     */
+    @Test
+    @RunAsClient
+    private void testNestedSpans() {
+        testNestedSpans(TestServerWebServices.REST_NESTED, 1, 2, getRandomNumber(), false, false);
+    }
+
+    /**
+     * Test the URLs of the server and client spans of a request making asynchronous nested requests with query
+     * parameters.
+     */
+    @Test
+    @RunAsClient
+    private void testNestedSpansAsync() {
+        testNestedSpans(TestServerWebServices.REST_NESTED, 1, 2, getRandomNumber(), false, true);
+    }
+}
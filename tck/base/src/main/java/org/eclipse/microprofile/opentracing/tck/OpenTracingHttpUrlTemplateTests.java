@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.opentracing.tck.application.TestServerWebServices;
+import org.eclipse.microprofile.opentracing.tck.application.WildcardClassService;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpan;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree.TreeNode;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.opentracing.tag.Tags;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Tests with the {@code template} HTTP URL mode. {@code Tags.HTTP_URL} of server spans contains the path
+ * template of the resource method instead of the request path, client spans don't contain the query string.
+ */
+public class OpenTracingHttpUrlTemplateTests extends OpenTracingBaseTests {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        Map<String, String> config = new HashMap<>();
+        config.put("mp.opentracing.http-url.mode", "template");
+        return OpenTracingBaseTests.createDeployment(config);
+    }
+
+    /**
+     * For server spans the service and relative path are the {@code @Path} values of the resource class and method,
+     * which are joined with a single slash.
+     */
+    @Override
+    protected String getExpectedHttpUrl(String spanKind, String service, String relativePath,
+            Map<String, Object> queryParameters) {
+        if (Tags.SPAN_KIND_SERVER.equals(spanKind)) {
+            return getWebServiceURL(trimSlashes(service), trimSlashes(relativePath));
+        }
+        return getWebServiceURL(service, relativePath);
+    }
+
+    /**
+     * Test that the path parameters of a request are replaced by the path template.
+     */
+    @Test
+    @RunAsClient
+    private void testWildcardTemplate() {
+        Response response = executeRemoteWebServiceRaw("wildcard/10/foo", "getFoo/ten", Status.OK);
+        response.close();
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+
+        TestSpanTree expectedTree = new TestSpanTree(
+                new TreeNode<>(
+                        new TestSpan(
+                                getOperationName(
+                                        Tags.SPAN_KIND_SERVER,
+                                        HttpMethod.GET,
+                                        WildcardClassService.class,
+                                        getEndpointMethod(WildcardClassService.class,
+                                                WildcardClassService.REST_FOO_PATH)),
+                                getExpectedSpanTags(
+                                        Tags.SPAN_KIND_SERVER,
+                                        HttpMethod.GET,
+                                        WildcardClassService.REST_SERVICE_PATH,
+                                        WildcardClassService.REST_FOO_PATH,
+                                        null,
+                                        Status.OK.getStatusCode(),
+                                        JAXRS_COMPONENT),
+                                Collections.emptyList())));
+        assertEqualTrees(spans, expectedTree);
+    }
+
+    /**
+     * Test the URLs of the server and client spans of a request making nested requests with query parameters.
+     */
+    @Test
+    @RunAsClient
+    private void testNestedSpans() {
+        testNestedSpans(TestServerWebServices.REST_NESTED, 1, 2, getRandomNumber(), false, false);
+    }
+
+    /**
+     * Test the URLs of the server and client spans of a request making asynchronous nested requests with query
+     * parameters.
+     */
+    @Test
+    @RunAsClient
+    private void testNestedSpansAsync() {
+        testNestedSpans(TestServerWebServices.REST_NESTED, 1, 2, getRandomNumber(), false, true);
+    }
+
+    private static String trimSlashes(String path) {
+        int begin = path.startsWith("/") ? 1 : 0;
+        int end = path.endsWith("/") ? path.length() - 1 : path.length();
+        return path.substring(begin, end);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.microprofile.opentracing.tck.application.TestServerWebServices;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpan;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree.TreeNode;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.opentracing.tag.Tags;
+
+/**
+ * Tests with a maximum number of spans per trace. Spans past the limit are not recorded and the root span of the
+ * trace is marked as truncated.
+ */
+public class OpenTracingMaxSpansTests extends OpenTracingBaseTests {
+
+    /**
+     * Maximum number of spans per trace.
+     */
+    private static final int MAX_SPANS_PER_TRACE = 10;
+
+    /**
+     * Tag set on the root span of a truncated trace.
+     */
+    private static final String TRUNCATED_TAG = "trace.truncated";
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        Map<String, String> config = new HashMap<>();
+        config.put("mp.opentracing.max-spans-per-trace", String.valueOf(MAX_SPANS_PER_TRACE));
+        return OpenTracingBaseTests.createDeployment(config);
+    }
+
+    /**
+     * Test a trace which stays below the limit is neither truncated nor marked.
+     */
+    @Test
+    @RunAsClient
+    private void testBelowLimit() {
+        int uniqueId = getRandomNumber();
+        int nestBreadth = 2;
+        executeNested(TestServerWebServices.REST_NESTED, uniqueId, 1, nestBreadth, false, false);
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+        spans.visitTree(span -> Assert.assertNull(span.getTags().get(TRUNCATED_TAG), "Span " + span));
+        assertEqualTrees(spans, new TestSpanTree(
+                createExpectedNestTree(TestServerWebServices.REST_NESTED, uniqueId, nestBreadth, false, false)));
+    }
+
+    /**
+     * Test that the nested endpoint driven past the limit records exactly the first spans of the trace. Each nested
+     * request creates a client span followed by a server span, so the recorded client spans past the limit have no
+     * server span and the server spans of the nested requests past the limit are not recorded either, although the
+     * trace context is still propagated to them.
+     */
+    @Test
+    @RunAsClient
+    private void testTruncated() {
+        int uniqueId = getRandomNumber();
+        int nestBreadth = 4 * MAX_SPANS_PER_TRACE;
+        executeNested(TestServerWebServices.REST_NESTED, uniqueId, 1, nestBreadth, false, false);
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+        Assert.assertEquals(spans.getRootSpans().size(), 1, "Truncated spans must not create new traces");
+        TestSpan rootSpan = spans.getRootSpans().get(0).getData();
+        Assert.assertEquals(rootSpan.getTags().get(TRUNCATED_TAG), Boolean.TRUE, "Span " + rootSpan);
+
+        int[] recorded = new int[1];
+        spans.visitTree(span -> recorded[0]++);
+        Assert.assertEquals(recorded[0], MAX_SPANS_PER_TRACE);
+
+        TreeNode<TestSpan> expectedRoot = new TreeNode<>(
+                getExpectedNestedServerSpan(TestServerWebServices.REST_NESTED, Tags.SPAN_KIND_SERVER, uniqueId, 1,
+                        nestBreadth, false, false, false));
+        int remaining = MAX_SPANS_PER_TRACE - 1;
+        while (remaining > 0) {
+            TreeNode<TestSpan> clientSpan = expectedRoot.addChild(new TreeNode<>(
+                    getExpectedNestedServerSpan(TestServerWebServices.REST_NESTED, Tags.SPAN_KIND_CLIENT, uniqueId, 0,
+                            1, false, false, false)));
+            remaining--;
+            if (remaining > 0) {
+                clientSpan.addChild(new TreeNode<>(
+                        getExpectedNestedServerSpan(TestServerWebServices.REST_NESTED, Tags.SPAN_KIND_SERVER,
+                                uniqueId, 0, 1, false, false, false)));
+                remaining--;
+            }
+        }
+        assertEqualTrees(spans, new TestSpanTree(expectedRoot));
+    }
+
+    /**
+     * Test that the spans of concurrent traces are counted separately.
+     *
+     * @throws InterruptedException
+     *             Problem executing web service.
+     * @throws ExecutionException
+     *             Thread pool problem.
+     */
+    @Test
+    @RunAsClient
+    private void testConcurrentTracesBelowLimit() throws InterruptedException, ExecutionException {
+        int numberOfCalls = 100;
+        int nestDepth = 1;
+        int nestBreadth = (MAX_SPANS_PER_TRACE - 1) / 2;
+        testMultithreadedNestedSpans(TestServerWebServices.REST_NESTED, numberOfCalls, nestDepth, nestBreadth, false,
+                true);
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.opentracing.tck.application.TestMinDurationAnnotatedClass;
+import org.eclipse.microprofile.opentracing.tck.application.TestServerWebServices;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpan;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree.TreeNode;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.opentracing.tag.Tags;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Tests with a global minimum duration for spans of Traced methods.
+ */
+public class OpenTracingMinDurationTests extends OpenTracingBaseTests {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        Map<String, String> config = new HashMap<>();
+        config.put("mp.opentracing.traced.min-duration",
+                String.valueOf(TestMinDurationAnnotatedClass.MIN_DURATION_MICROS));
+        return OpenTracingBaseTests.createDeployment(config);
+    }
+
+    /**
+     * Test that the global minimum duration applies to Traced methods which don't specify their own.
+     */
+    @Test
+    @RunAsClient
+    private void testGlobalMinDuration() {
+        testMinDuration(true);
+    }
+
+    /**
+     * Test that the fast Traced methods of the annotations endpoint are all discarded, while the server span is kept.
+     */
+    @Test
+    @RunAsClient
+    private void testGlobalMinDurationAnnotations() {
+        Response response = executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                TestServerWebServices.REST_ANNOTATIONS, Status.OK);
+        response.close();
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+        TestSpanTree expectedTree = new TestSpanTree(
+                new TreeNode<>(
+                        new TestSpan(
+                                getOperationName(
+                                        Tags.SPAN_KIND_SERVER,
+                                        HttpMethod.GET,
+                                        TestServerWebServices.class,
+                                        getEndpointMethod(TestServerWebServices.class,
+                                                TestServerWebServices.REST_ANNOTATIONS)),
+                                getExpectedSpanTags(
+                                        Tags.SPAN_KIND_SERVER,
+                                        HttpMethod.GET,
+                                        TestServerWebServices.REST_TEST_SERVICE_PATH,
+                                        TestServerWebServices.REST_ANNOTATIONS,
+                                        null,
+                                        Status.OK.getStatusCode(),
+                                        JAXRS_COMPONENT),
+                                Collections.emptyList())));
+        assertEqualTrees(spans, expectedTree);
+    }
+}
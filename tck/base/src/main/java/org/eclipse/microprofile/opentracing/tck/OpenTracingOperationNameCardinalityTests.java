@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.opentracing.tck.application.TestServerWebServices;
+import org.eclipse.microprofile.opentracing.tck.application.WildcardClassService;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpan;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree.TreeNode;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Tests of the cardinality guard for server operation names generated by the {@code http-path} operation name
+ * provider.
+ */
+public class OpenTracingOperationNameCardinalityTests extends OpenTracingBaseTests {
+
+    /**
+     * Maximum number of distinct server operation names.
+     */
+    private static final int MAX_CARDINALITY = 2;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        Map<String, String> config = new HashMap<>();
+        config.put("mp.opentracing.server.operation-name-provider", "http-path");
+        config.put("mp.opentracing.server.operation-name.max-cardinality", String.valueOf(MAX_CARDINALITY));
+        return OpenTracingBaseTests.createDeployment(config);
+    }
+
+    /**
+     * Test that templated paths count as a single operation name whatever the values of their path parameters are,
+     * that names past the limit collapse into the fallback name, and that names admitted before keep their name.
+     * Everything is done in one test because the tracked names are shared by all requests of the deployment. Names
+     * are admitted in the order of the first traced request using them, and the test completes before any name could
+     * be evicted after one minute without use.
+     */
+    @Test
+    @RunAsClient
+    private void testMaxCardinality() {
+        int numberOfCalls = 200;
+        String fooOperationName = HttpMethod.GET + ":" + WildcardClassService.REST_SERVICE_PATH
+                + WildcardClassService.REST_FOO_PATH;
+        String twoIdsOperationName = HttpMethod.GET + ":" + WildcardClassService.REST_SERVICE_PATH
+                + WildcardClassService.REST_TWO_IDS;
+        String fallbackOperationName = HttpMethod.GET + ":*";
+
+        for (int i = 0; i < numberOfCalls; i++) {
+            executeRemoteWebServiceRaw("wildcard/" + i + "/foo", "getFoo/name" + i, Status.OK).close();
+        }
+        for (int i = 0; i < numberOfCalls; i++) {
+            executeRemoteWebServiceRaw("wildcard/" + i + "/foo", "twoIds/" + i + "/" + i, Status.OK).close();
+        }
+        // The limit is reached, a new resource method gets the fallback name
+        for (int i = 0; i < numberOfCalls; i++) {
+            executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                    TestServerWebServices.REST_SIMPLE_TEST, Status.OK).close();
+        }
+        // Names admitted before the limit was reached are unaffected
+        for (int i = 0; i < numberOfCalls; i++) {
+            executeRemoteWebServiceRaw("wildcard/" + i + "/foo", "getFoo/other" + i, Status.OK).close();
+        }
+
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+        Map<String, Integer> spanCounts = new HashMap<>();
+        for (TreeNode<TestSpan> rootSpan : spans.getRootSpans()) {
+            Assert.assertTrue(rootSpan.getChildren().isEmpty());
+            spanCounts.merge(rootSpan.getData().getCachedOperationName(), 1, Integer::sum);
+        }
+
+        Map<String, Integer> expectedCounts = new HashMap<>();
+        expectedCounts.put(fooOperationName, 2 * numberOfCalls);
+        expectedCounts.put(twoIdsOperationName, numberOfCalls);
+        expectedCounts.put(fallbackOperationName, numberOfCalls);
+        Assert.assertEquals(spanCounts, expectedCounts);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.opentracing.tck.application.TestServerWebServices;
+import org.eclipse.microprofile.opentracing.tck.application.WildcardClassService;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.opentracing.tag.Tags;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.core.Response.Status;
+
+/**
+ * Tests of per-endpoint sampling of server requests, keyed by the HTTP path template of the resource method. The
+ * default operation name provider is used, so the keys don't depend on the operation names.
+ */
+public class OpenTracingServerSamplingTests extends OpenTracingBaseTests {
+
+    /**
+     * Sampling rate of {@link WildcardClassService#REST_FOO_PATH}.
+     */
+    private static final double WILDCARD_SAMPLING_RATE = 0.5;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        Map<String, String> config = new HashMap<>();
+        config.put("mp.opentracing.server.sampling.GET:" + WildcardClassService.REST_SERVICE_PATH
+                + WildcardClassService.REST_FOO_PATH, String.valueOf(WILDCARD_SAMPLING_RATE));
+        config.put("mp.opentracing.server.sampling.GET:/" + TestServerWebServices.REST_TEST_SERVICE_PATH + "/"
+                + TestServerWebServices.REST_SIMPLE_TEST, "0.0");
+        config.put("mp.opentracing.server.sampling.GET:/" + TestServerWebServices.REST_TEST_SERVICE_PATH + "/"
+                + TestServerWebServices.REST_LOCAL_SPAN, "1.0");
+        return OpenTracingBaseTests.createDeployment(config);
+    }
+
+    /**
+     * Test that requests of an endpoint with a sampling rate of 0.0 never create a span.
+     */
+    @Test
+    @RunAsClient
+    private void testNeverSampled() {
+        int numberOfCalls = 100;
+        for (int i = 0; i < numberOfCalls; i++) {
+            executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                    TestServerWebServices.REST_SIMPLE_TEST, Status.OK).close();
+        }
+        assertEqualTrees(executeRemoteWebServiceTracerTree(), new TestSpanTree());
+    }
+
+    /**
+     * Test that requests of an endpoint with a sampling rate of 1.0 always create a span.
+     */
+    @Test
+    @RunAsClient
+    private void testAlwaysSampled() {
+        int numberOfCalls = 100;
+        for (int i = 0; i < numberOfCalls; i++) {
+            executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                    TestServerWebServices.REST_LOCAL_SPAN, Status.OK).close();
+        }
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+        Assert.assertEquals(spans.getRootSpans().size(), numberOfCalls);
+    }
+
+    /**
+     * Test that requests of an endpoint without a configured sampling rate are all traced, even if another resource
+     * method of the same class has a sampling rate.
+     */
+    @Test
+    @RunAsClient
+    private void testNotConfigured() {
+        int numberOfCalls = 100;
+        for (int i = 0; i < numberOfCalls; i++) {
+            executeRemoteWebServiceRaw("wildcard/" + i + "/foo", "twoIds/" + i + "/" + i, Status.OK).close();
+        }
+        String expectedOperationName = getOperationName(
+                Tags.SPAN_KIND_SERVER,
+                HttpMethod.GET,
+                WildcardClassService.class,
+                getEndpointMethod(WildcardClassService.class, WildcardClassService.REST_TWO_IDS));
+        assertOperationNames(executeRemoteWebServiceTracerTree(), numberOfCalls, expectedOperationName);
+    }
+
+    /**
+     * Test that requests of a templated endpoint are sampled with the configured rate, regardless of the values of
+     * the path parameters.
+     */
+    @Test
+    @RunAsClient
+    private void testSamplingRate() {
+        int numberOfCalls = 1000;
+        for (int i = 0; i < numberOfCalls; i++) {
+            executeRemoteWebServiceRaw("wildcard/" + i + "/foo", "getFoo/name" + i, Status.OK).close();
+        }
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+
+        // The tolerance is more than nine standard deviations of the binomial distribution.
+        int expected = (int) (numberOfCalls * WILDCARD_SAMPLING_RATE);
+        int sampled = spans.getRootSpans().size();
+        Assert.assertTrue(Math.abs(sampled - expected) <= 150,
+                "Expected about " + expected + " sampled spans but got " + sampled);
+
+        String expectedOperationName = getOperationName(
+                Tags.SPAN_KIND_SERVER,
+                HttpMethod.GET,
+                WildcardClassService.class,
+                getEndpointMethod(WildcardClassService.class, WildcardClassService.REST_FOO_PATH));
+        assertOperationNames(spans, sampled, expectedOperationName);
+    }
+}
@@ -19,19 +19,22 @@
 
 package org.eclipse.microprofile.opentracing.tck;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 
-import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.eclipse.microprofile.opentracing.tck.application.TestServerSkipAllWebServices;
 import org.eclipse.microprofile.opentracing.tck.application.TestServerWebServices;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpan;
 import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree;
+import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree.TreeNode;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.arquillian.container.test.api.RunAsClient;
 import org.jboss.shrinkwrap.api.spec.WebArchive;
 import org.testng.annotations.Test;
 
+import io.opentracing.tag.Tags;
+import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.core.Response;
@@ -42,38 +45,21 @@ import jakarta.ws.rs.core.Response.Status;
  */
 public class OpenTracingSkipPatternTests extends OpenTracingBaseTests {
 
-    public static class TestConfiguration implements ConfigSource {
-        private Map<String, String> propMap = new HashMap<>();
-
-        {
-            propMap.put("mp.opentracing.server.skip-pattern", "/skipAll/.*|/testServices/skipSimple");
-        }
-
-        @Override
-        public Map<String, String> getProperties() {
-            return propMap;
-        }
-
-        @Override
-        public String getValue(String s) {
-            return propMap.get(s);
-        }
-
-        @Override
-        public String getName() {
-            return this.getClass().getName();
-        }
-
-        @Override
-        public Set<String> getPropertyNames() {
-            return getProperties().keySet();
-        }
-    }
+    /**
+     * Number of additional literal alternatives in the skip pattern which never match.
+     */
+    private static final int UNUSED_ALTERNATIVES = 100;
 
     @Deployment
     public static WebArchive createDeployment() {
-        return OpenTracingBaseTests.createDeployment()
-                .addAsServiceProvider(ConfigSource.class, TestConfiguration.class);
+        Map<String, String> config = new HashMap<>();
+        StringBuilder skipPattern = new StringBuilder("/skipAll/.*|/testServices/skipSimple");
+        skipPattern.append("|/testServices/skipRegex/[0-9]+");
+        for (int i = 0; i < UNUSED_ALTERNATIVES; i++) {
+            skipPattern.append("|/unused").append(i).append("/.*|/testServices/unused").append(i);
+        }
+        config.put("mp.opentracing.server.skip-pattern", skipPattern.toString());
+        return OpenTracingBaseTests.createDeployment(config);
     }
 
     /**
@@ -115,6 +101,104 @@ public class OpenTracingSkipPatternTests extends OpenTracingBaseTests {
         assertEqualTrees(spans, new TestSpanTree());
     }
 
+    /**
+     * Test a web service endpoint that shouldn't be traced.
+     */
+    @Test
+    @RunAsClient
+    private void testSkipDeepPrefix() {
+        Response response = executeRemoteWebServiceRaw(TestServerSkipAllWebServices.REST_TEST_SKIP_SERVICE_PATH,
+                TestServerSkipAllWebServices.REST_DEEP_NESTED_PATH, Status.OK);
+        response.close();
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+        assertEqualTrees(spans, new TestSpanTree());
+    }
+
+    /**
+     * Test a web service endpoint that shouldn't be traced because its path matches a regular expression alternative.
+     */
+    @Test
+    @RunAsClient
+    private void testSkipRegex() {
+        Response response = executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                "skipRegex/123", Status.NO_CONTENT);
+        response.close();
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+        assertEqualTrees(spans, new TestSpanTree());
+    }
+
+    /**
+     * Test a web service endpoint that should be traced because its path doesn't match a regular expression
+     * alternative.
+     */
+    @Test
+    @RunAsClient
+    private void testNotSkippedRegex() {
+        testNotSkipped(TestServerWebServices.REST_SKIP_REGEX, "skipRegex/abc");
+    }
+
+    /**
+     * Test a web service endpoint that should be traced because a skipped literal path is only a prefix of its path.
+     */
+    @Test
+    @RunAsClient
+    private void testNotSkippedLiteralPrefix() {
+        testNotSkipped(TestServerWebServices.REST_SKIP_SIMPLE_NOT_SKIPPED,
+                TestServerWebServices.REST_SKIP_SIMPLE_NOT_SKIPPED);
+    }
+
+    /**
+     * Test that many requests to skipped endpoints don't create any span.
+     */
+    @Test
+    @RunAsClient
+    private void testSkipManyRequests() {
+        int numberOfCalls = 100;
+        for (int i = 0; i < numberOfCalls; i++) {
+            executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                    TestServerWebServices.REST_SKIP_SIMPLE, Status.NO_CONTENT).close();
+            executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                    "skipRegex/" + i, Status.NO_CONTENT).close();
+            executeRemoteWebServiceRaw(TestServerSkipAllWebServices.REST_TEST_SKIP_SERVICE_PATH,
+                    TestServerSkipAllWebServices.REST_SIMPLE_PATH, Status.OK).close();
+        }
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+        assertEqualTrees(spans, new TestSpanTree());
+    }
+
+    /**
+     * Execute a web service endpoint which is expected to be traced.
+     *
+     * @param mapping
+     *            {@link jakarta.ws.rs.Path} value of the endpoint.
+     * @param relativePath
+     *            Path of the request relative to the service.
+     */
+    private void testNotSkipped(String mapping, String relativePath) {
+        Response response = executeRemoteWebServiceRaw(TestServerWebServices.REST_TEST_SERVICE_PATH,
+                relativePath, Status.OK);
+        response.close();
+        TestSpanTree spans = executeRemoteWebServiceTracerTree();
+        TestSpanTree expectedTree = new TestSpanTree(
+                new TreeNode<>(
+                        new TestSpan(
+                                getOperationName(
+                                        Tags.SPAN_KIND_SERVER,
+                                        HttpMethod.GET,
+                                        TestServerWebServices.class,
+                                        getEndpointMethod(TestServerWebServices.class, mapping)),
+                                getExpectedSpanTags(
+                                        Tags.SPAN_KIND_SERVER,
+                                        HttpMethod.GET,
+                                        TestServerWebServices.REST_TEST_SERVICE_PATH,
+                                        relativePath,
+                                        null,
+                                        Status.OK.getStatusCode(),
+                                        JAXRS_COMPONENT),
+                                Collections.emptyList())));
+        assertEqualTrees(spans, expectedTree);
+    }
+
     /**
      * Test a web service endpoint that shouldn't be traced.
      */
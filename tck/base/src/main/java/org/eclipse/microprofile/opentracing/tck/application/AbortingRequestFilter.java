@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck.application;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+
+/**
+ * Request filter which aborts requests carrying the {@link #PARAM_ABORT_STATUS} query parameter with that HTTP status,
+ * before the resource method is invoked. Other requests are not affected.
+ */
+@Provider
+@Priority(Priorities.AUTHENTICATION)
+public class AbortingRequestFilter implements ContainerRequestFilter {
+
+    /**
+     * Query parameter for the HTTP status the request is aborted with.
+     */
+    public static final String PARAM_ABORT_STATUS = "abortStatus";
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        String status = requestContext.getUriInfo().getQueryParameters().getFirst(PARAM_ABORT_STATUS);
+        if (status != null) {
+            requestContext.abortWith(Response.status(Integer.parseInt(status)).build());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck.application;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.opentracing.ClientTracingRegistrarProvider;
+
+import jakarta.ws.rs.client.ClientBuilder;
+
+/**
+ * {@link ClientTracingRegistrarProvider} which counts how many times it has been instantiated. It does not add any
+ * tracing integration to the client builder.
+ *
+ * It is not registered in the deployment, where the provider of the implementation may take precedence. It is only
+ * visible through the class loader returned by {@link #newIsolatedClassLoader(ClassLoader)}.
+ */
+public class CountingClientTracingRegistrarProvider implements ClientTracingRegistrarProvider {
+
+    /**
+     * Number of created instances.
+     */
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    /**
+     * Resource listing this class as the only {@link ClientTracingRegistrarProvider}.
+     */
+    public static final String PROVIDER_RESOURCE = "counting-client-tracing-registrar-provider";
+
+    private static final String SERVICE_RESOURCE = "META-INF/services/"
+            + ClientTracingRegistrarProvider.class.getName();
+
+    public CountingClientTracingRegistrarProvider() {
+        INSTANCES.incrementAndGet();
+    }
+
+    /**
+     * Get the number of created instances.
+     *
+     * @return number of instances
+     */
+    public static int getInstances() {
+        return INSTANCES.get();
+    }
+
+    @Override
+    public ClientBuilder configure(ClientBuilder clientBuilder) {
+        return clientBuilder;
+    }
+
+    @Override
+    public ClientBuilder configure(ClientBuilder clientBuilder, ExecutorService executorService) {
+        return clientBuilder.executorService(executorService);
+    }
+
+    /**
+     * Create a class loader which delegates to the given parent, except that the service loader finds this class as
+     * the only {@link ClientTracingRegistrarProvider}.
+     *
+     * @param parent
+     *            class loader of the deployment, which contains {@link #PROVIDER_RESOURCE}
+     * @return isolated class loader
+     */
+    public static ClassLoader newIsolatedClassLoader(ClassLoader parent) {
+        return new ClassLoader(parent) {
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                if (SERVICE_RESOURCE.equals(name)) {
+                    return Collections.enumeration(Collections.list(getParent().getResources(PROVIDER_RESOURCE)));
+                }
+                return super.getResources(name);
+            }
+        };
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck.application;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.opentracing.SpanContext;
+import io.opentracing.Tracer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * Queue of suspended requests which are resumed later by a single resumer thread, so that many requests are
+ * outstanding without holding a thread each.
+ */
+@ApplicationScoped
+public class ParkedRequests {
+
+    /**
+     * How often the resumer thread drains the queue.
+     */
+    public static final long RESUME_INTERVAL_MILLIS = 20;
+
+    private final Queue<ParkedRequest> parked = new ConcurrentLinkedQueue<>();
+
+    private ScheduledExecutorService resumer;
+
+    @Inject
+    private Tracer tracer;
+
+    @PostConstruct
+    void init() {
+        resumer = Executors.newSingleThreadScheduledExecutor();
+        resumer.scheduleWithFixedDelay(this::resumeParked, RESUME_INTERVAL_MILLIS, RESUME_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void close() {
+        resumer.shutdownNow();
+    }
+
+    /**
+     * Park a suspended request until the resumer thread picks it up.
+     *
+     * @param asyncResponse
+     *            The suspended request.
+     * @param parent
+     *            Context of the span active when the request was parked, may be null.
+     * @param onResume
+     *            Called on the resumer thread with the parked span context just before the request is resumed.
+     */
+    public void park(AsyncResponse asyncResponse, SpanContext parent, Consumer<SpanContext> onResume) {
+        parked.add(new ParkedRequest(asyncResponse, parent, onResume));
+    }
+
+    /**
+     * Resume all parked requests. A request which cannot be resumed, e.g. because it was cancelled, is dropped so
+     * that the periodic task keeps running for the other requests.
+     */
+    private void resumeParked() {
+        ParkedRequest request;
+        while ((request = parked.poll()) != null) {
+            try {
+                resume(request);
+            } catch (RuntimeException e) {
+                // The response is already done, there is nobody left to report the failure to
+            }
+        }
+    }
+
+    private void resume(ParkedRequest request) {
+        // No span may be active here: the resumer thread never activates one, so an active span can only be
+        // a scope leaked by the implementation.
+        if (tracer.activeSpan() != null) {
+            request.asyncResponse.resume(Response.serverError()
+                    .entity("Leaked active span on resumer thread: " + tracer.activeSpan())
+                    .build());
+            return;
+        }
+        try {
+            request.onResume.accept(request.parent);
+            request.asyncResponse.resume(Response.ok().build());
+        } catch (RuntimeException e) {
+            request.asyncResponse.resume(e);
+        }
+    }
+
+    private static final class ParkedRequest {
+        private final AsyncResponse asyncResponse;
+        private final SpanContext parent;
+        private final Consumer<SpanContext> onResume;
+
+        ParkedRequest(AsyncResponse asyncResponse, SpanContext parent, Consumer<SpanContext> onResume) {
+            this.asyncResponse = asyncResponse;
+            this.parent = parent;
+            this.onResume = onResume;
+        }
+    }
+}
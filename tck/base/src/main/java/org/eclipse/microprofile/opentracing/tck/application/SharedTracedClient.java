@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck.application;
+
+import org.eclipse.microprofile.opentracing.ClientTracingRegistrar;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+
+/**
+ * Long-lived {@link Client} shared by all requests, traced by registering {@link ClientTracingRegistrar#feature()}.
+ */
+@ApplicationScoped
+public class SharedTracedClient {
+
+    private Client client;
+
+    @PostConstruct
+    void init() {
+        client = ClientBuilder.newClient().register(ClientTracingRegistrar.feature());
+    }
+
+    @PreDestroy
+    void close() {
+        client.close();
+    }
+
+    /**
+     * Get the shared client.
+     *
+     * @return client with tracing integration
+     */
+    public Client getClient() {
+        return client;
+    }
+}
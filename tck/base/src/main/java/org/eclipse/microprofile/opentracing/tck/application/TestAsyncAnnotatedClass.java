@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck.application;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.opentracing.Traced;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Injectable class with the Traced annotation whose methods return stages completed later by a single scheduler
+ * thread, so no thread is blocked per invocation.
+ */
+@ApplicationScoped
+@Traced
+public class TestAsyncAnnotatedClass {
+
+    /**
+     * Delay after which the returned stages complete.
+     */
+    public static final long COMPLETION_DELAY_MILLIS = 100;
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void init() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Method that we expect to be Traced until the returned stage completes.
+     *
+     * @return stage completed normally after {@link #COMPLETION_DELAY_MILLIS}
+     */
+    public CompletionStage<String> completeLater() {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        scheduler.schedule(() -> result.complete("completed"), COMPLETION_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        return result;
+    }
+
+    /**
+     * Method that we expect to be Traced until the returned future completes, and to log the error then.
+     *
+     * @return future completed exceptionally after {@link #COMPLETION_DELAY_MILLIS}
+     */
+    public CompletableFuture<String> failLater() {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        scheduler.schedule(() -> result.completeExceptionally(ApplicationUtils.createExampleRuntimeException()),
+                COMPLETION_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        return result;
+    }
+}
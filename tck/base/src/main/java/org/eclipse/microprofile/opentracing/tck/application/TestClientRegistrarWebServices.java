@@ -19,21 +19,30 @@
 
 package org.eclipse.microprofile.opentracing.tck.application;
 
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.microprofile.opentracing.ClientTracingRegistrar;
 
+import jakarta.inject.Inject;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.client.AsyncInvoker;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.Invocation.Builder;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.Status;
 import jakarta.ws.rs.core.UriInfo;
 
 /**
@@ -45,10 +54,28 @@ public class TestClientRegistrarWebServices {
     public static final String REST_OK = "ok";
     public static final String REST_CLIENT_BUILDER = "clientBuilder";
     public static final String REST_CLIENT_BUILDER_EXECUTOR = "clientBuilderExecutor";
+    public static final String REST_PROVIDER_INSTANCES = "providerInstances";
+    public static final String REST_SHARED_CLIENT = "sharedClient";
+    public static final String REST_CLIENT_BUILDER_VIRTUAL_EXECUTOR = "clientBuilderVirtualExecutor";
+    public static final String REST_CLIENT_SKIP = "clientSkip";
+    public static final String REST_SKIPPED = "skipped";
+    public static final String PARAM_REQUESTS = "requests";
+    public static final String PARAM_CONFIGURE_CALLS = "configureCalls";
+    public static final String PARAM_SHARED = "shared";
+
+    /**
+     * Context class loader used to resolve {@link CountingClientTracingRegistrarProvider}. It is shared by all requests
+     * so that the registrar can reuse the resolved provider.
+     */
+    private static final ClassLoader COUNTING_PROVIDER_CLASS_LOADER = CountingClientTracingRegistrarProvider
+            .newIsolatedClassLoader(TestClientRegistrarWebServices.class.getClassLoader());
 
     @Context
     private UriInfo uri;
 
+    @Inject
+    private SharedTracedClient sharedClient;
+
     @GET
     @Path(REST_OK)
     @Produces(MediaType.TEXT_PLAIN)
@@ -56,6 +83,36 @@ public class TestClientRegistrarWebServices {
         return Response.ok().build();
     }
 
+    /**
+     * Target of outbound requests which are excluded by the client skip pattern.
+     */
+    @GET
+    @Path(REST_SKIPPED)
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response skipped() {
+        return Response.ok().build();
+    }
+
+    /**
+     * Endpoint which sends an outbound request to {@link #REST_SKIPPED}, either with a client instrumented by
+     * {@link ClientTracingRegistrar#configure(ClientBuilder)} or with the shared client.
+     */
+    @GET
+    @Path(REST_CLIENT_SKIP)
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response clientSkip(@QueryParam("async") boolean async, @QueryParam(PARAM_SHARED) boolean shared)
+            throws ExecutionException, InterruptedException {
+        if (shared) {
+            return executeEndpointRequest(sharedClient.getClient(), REST_SKIPPED, async);
+        }
+        Client client = instrumentedClient();
+        try {
+            return executeEndpointRequest(client, REST_SKIPPED, async);
+        } finally {
+            client.close();
+        }
+    }
+
     /**
      * Endpoint which uses {@link ClientTracingRegistrar#configure(ClientBuilder)} to create an outbound request to
      * instrument a client for an outbound request.
@@ -77,19 +134,113 @@ public class TestClientRegistrarWebServices {
     @Produces(MediaType.TEXT_PLAIN)
     public Response clientRegistrarExecutor(@QueryParam("async") boolean async)
             throws ExecutionException, InterruptedException {
-        return executeSimpleEndpoint(instrumentedClientExecutor(), async);
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        try {
+            return executeSimpleEndpoint(instrumentedClient(executorService), async);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Endpoint which uses {@link ClientTracingRegistrar#configure(ClientBuilder, java.util.concurrent.ExecutorService)}
+     * with an executor creating a virtual thread per task to send the given number of concurrent asynchronous outbound
+     * requests. Returns Not Implemented if the runtime doesn't support virtual threads.
+     */
+    @GET
+    @Path(REST_CLIENT_BUILDER_VIRTUAL_EXECUTOR)
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response clientRegistrarVirtualExecutor(@QueryParam(PARAM_REQUESTS) @DefaultValue("1") int requests)
+            throws ExecutionException, InterruptedException {
+        ExecutorService executorService = newVirtualThreadPerTaskExecutor();
+        if (executorService == null) {
+            return Response.status(Status.NOT_IMPLEMENTED).build();
+        }
+        Client client = instrumentedClient(executorService);
+        try {
+            AsyncInvoker invoker = client.target(uri.getBaseUri())
+                    .path(REST_SERVICE_PATH)
+                    .path(REST_OK)
+                    .request()
+                    .async();
+            List<Future<Response>> futures = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                futures.add(invoker.get());
+            }
+            for (Future<Response> future : futures) {
+                Response response = future.get();
+                response.close();
+                if (response.getStatus() != Status.OK.getStatusCode()) {
+                    return Response.status(response.getStatus()).build();
+                }
+            }
+            return Response.ok().build();
+        } finally {
+            client.close();
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Endpoint which uses a long-lived client shared by all requests and instrumented with
+     * {@link ClientTracingRegistrar#feature()} for an outbound request.
+     */
+    @GET
+    @Path(REST_SHARED_CLIENT)
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response sharedClient(@QueryParam("async") boolean async)
+            throws ExecutionException, InterruptedException {
+        return executeSimpleEndpointRequest(sharedClient.getClient(), async);
+    }
+
+    /**
+     * Endpoint which calls {@link ClientTracingRegistrar#configure(ClientBuilder)} and
+     * {@link ClientTracingRegistrar#configure(ClientBuilder, ExecutorService)} the given number of times and returns
+     * how many {@link CountingClientTracingRegistrarProvider} instances exist afterwards.
+     */
+    @GET
+    @Path(REST_PROVIDER_INSTANCES)
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response providerInstances(@QueryParam(PARAM_CONFIGURE_CALLS) int configureCalls) {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(COUNTING_PROVIDER_CLASS_LOADER);
+        try {
+            for (int i = 0; i < configureCalls; i++) {
+                ClientTracingRegistrar.configure(ClientBuilder.newBuilder());
+                ClientTracingRegistrar.configure(ClientBuilder.newBuilder(), executorService);
+            }
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+            executorService.shutdown();
+        }
+        return Response.ok(String.valueOf(CountingClientTracingRegistrarProvider.getInstances())).build();
     }
 
     private Response executeSimpleEndpoint(Client client, boolean async)
             throws ExecutionException, InterruptedException {
+        try {
+            return executeSimpleEndpointRequest(client, async);
+        } finally {
+            client.close();
+        }
+    }
+
+    private Response executeSimpleEndpointRequest(Client client, boolean async)
+            throws ExecutionException, InterruptedException {
+        return executeEndpointRequest(client, REST_OK, async);
+    }
+
+    private Response executeEndpointRequest(Client client, String path, boolean async)
+            throws ExecutionException, InterruptedException {
         Builder requestBuilder = client.target(uri.getBaseUri())
                 .path(REST_SERVICE_PATH)
-                .path(REST_OK)
+                .path(path)
                 .request();
 
         Response response = async ? requestBuilder.async().get().get() : requestBuilder.get();
         response.close();
-        client.close();
         return Response.status(response.getStatus()).build();
     }
 
@@ -99,9 +250,31 @@ public class TestClientRegistrarWebServices {
         return clientBuilder.build();
     }
 
-    private Client instrumentedClientExecutor() {
+    private Client instrumentedClient(ExecutorService executorService) {
         ClientBuilder clientBuilder = ClientBuilder.newBuilder();
-        ClientTracingRegistrar.configure(clientBuilder, Executors.newFixedThreadPool(10));
+        ClientTracingRegistrar.configure(clientBuilder, executorService);
         return clientBuilder.build();
     }
+
+    /**
+     * Create an executor starting a new virtual thread for each task. Virtual threads are looked up reflectively so
+     * that the TCK still runs on Java versions without them, or where they are a disabled preview feature.
+     *
+     * @return the executor, or null if virtual threads are not available
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        } catch (InvocationTargetException e) {
+            // Preview API of JDK 19 and 20 without --enable-preview
+            if (e.getCause() instanceof UnsupportedOperationException) {
+                return null;
+            }
+            throw new IllegalStateException("Cannot create a virtual thread executor", e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create a virtual thread executor", e);
+        }
+    }
 }
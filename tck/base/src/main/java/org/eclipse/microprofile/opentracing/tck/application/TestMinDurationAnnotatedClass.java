@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck.application;
+
+import org.eclipse.microprofile.opentracing.Traced;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Injectable class with the Traced annotation using a minimum span duration.
+ */
+@ApplicationScoped
+@Traced(minDurationMicros = TestMinDurationAnnotatedClass.MIN_DURATION_MICROS)
+public class TestMinDurationAnnotatedClass {
+
+    /**
+     * Minimum span duration specified on the class, also used as the global minimum duration by
+     * {@code OpenTracingMinDurationTests}.
+     */
+    public static final long MIN_DURATION_MICROS = 50_000;
+
+    /**
+     * How long {@link #slow()} takes, well above {@link #MIN_DURATION_MICROS}.
+     */
+    public static final long SLOW_MILLIS = 100;
+
+    /**
+     * Method whose span we expect to be discarded.
+     */
+    public void fast() {
+    }
+
+    /**
+     * Method whose span we expect to be kept because it is slower than the minimum duration.
+     *
+     * @throws InterruptedException
+     *             Interrupted while sleeping.
+     */
+    public void slow() throws InterruptedException {
+        Thread.sleep(SLOW_MILLIS);
+    }
+
+    /**
+     * Method whose span we expect to be kept because of the error.
+     */
+    public void fastWithException() {
+        throw ApplicationUtils.createExampleRuntimeException();
+    }
+
+    /**
+     * Method whose span we expect to be always kept.
+     */
+    @Traced(minDurationMicros = 0)
+    public void fastAlwaysKept() {
+    }
+
+    /**
+     * Method whose span we expect to be kept unless a global minimum duration is configured.
+     */
+    @Traced
+    public void fastWithGlobalMinDuration() {
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck.application;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.opentracing.OperationNameProvider;
+
+/**
+ * Application supplied operation name provider. It counts how many times the operation name of each resource method
+ * has been computed.
+ */
+public class TestOperationNameProvider implements OperationNameProvider {
+
+    /**
+     * Prefix of all operation names created by this provider.
+     */
+    public static final String PREFIX = "custom:";
+
+    /**
+     * Number of calls by operation name.
+     */
+    private static final Map<String, AtomicInteger> CALLS = new ConcurrentHashMap<>();
+
+    /**
+     * Get the highest number of times the operation name of a single resource method has been computed.
+     *
+     * @return number of calls, zero if the provider has not been called yet
+     */
+    public static int getMaxCalls() {
+        return CALLS.values().stream().mapToInt(AtomicInteger::get).max().orElse(0);
+    }
+
+    /**
+     * Get the operation name this provider creates for a resource method, without counting the call.
+     *
+     * @param httpMethod
+     *            HTTP method of the request
+     * @param resourceClass
+     *            Resource class
+     * @param resourceMethod
+     *            Resource method
+     * @return operation name
+     */
+    public static String operationNameOf(String httpMethod, Class<?> resourceClass, Method resourceMethod) {
+        return PREFIX + httpMethod + ":" + resourceClass.getSimpleName() + "." + resourceMethod.getName();
+    }
+
+    @Override
+    public String operationName(String httpMethod, Class<?> resourceClass, Method resourceMethod) {
+        String operationName = operationNameOf(httpMethod, resourceClass, resourceMethod);
+        CALLS.computeIfAbsent(operationName, name -> new AtomicInteger()).incrementAndGet();
+        return operationName;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck.application;
+
+import org.eclipse.microprofile.opentracing.Traced;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+/**
+ * Injectable class with the Traced annotation using a sampling rate.
+ */
+@ApplicationScoped
+@Traced(samplingRate = TestSampledAnnotatedClass.CLASS_SAMPLING_RATE)
+public class TestSampledAnnotatedClass {
+
+    /**
+     * Sampling rate specified on the class.
+     */
+    public static final double CLASS_SAMPLING_RATE = 0.5;
+
+    /**
+     * Method that we expect to be sampled with the class sampling rate.
+     */
+    public void sampledWithClassRate() {
+    }
+
+    /**
+     * Method that we expect to be never sampled.
+     */
+    @Traced(samplingRate = 0.0)
+    public void neverSampled() {
+    }
+
+    /**
+     * Method that we expect to be always sampled.
+     */
+    @Traced(samplingRate = 1.0)
+    public void alwaysSampled() {
+    }
+}
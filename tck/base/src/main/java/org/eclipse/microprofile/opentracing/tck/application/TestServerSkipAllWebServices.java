@@ -35,6 +35,7 @@ public class TestServerSkipAllWebServices {
     public static final String REST_TEST_SKIP_SERVICE_PATH = "skipAll";
     public static final String REST_SIMPLE_PATH = "simple";
     public static final String REST_NESTED_PATH = "simple/nested";
+    public static final String REST_DEEP_NESTED_PATH = "simple/nested/deep";
     public static final String REST_EXPLICITLY_TRACED = "explicitlyTraced";
 
     @GET
@@ -51,6 +52,13 @@ public class TestServerSkipAllWebServices {
         return Response.ok().build();
     }
 
+    @GET
+    @Path(REST_DEEP_NESTED_PATH)
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response deepNestedPath() {
+        return Response.ok().build();
+    }
+
     @GET
     @Traced
     @Path(REST_EXPLICITLY_TRACED)
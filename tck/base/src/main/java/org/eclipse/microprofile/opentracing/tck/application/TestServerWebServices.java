@@ -24,17 +24,27 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.microprofile.opentracing.ClientTracingRegistrar;
 import org.eclipse.microprofile.opentracing.Traced;
+import org.eclipse.microprofile.opentracing.TracedExecutors;
 
+import io.opentracing.Scope;
 import io.opentracing.Span;
+import io.opentracing.SpanContext;
 import io.opentracing.Tracer;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.client.Client;
@@ -74,11 +84,27 @@ public class TestServerWebServices {
      */
     public static final String REST_SKIP_SIMPLE = "skipSimple";
 
+    /**
+     * Web service endpoint which should not be traced if the path parameter is numeric.
+     */
+    public static final String REST_SKIP_REGEX = "skipRegex/{id}";
+
+    /**
+     * Web service endpoint whose path starts with {@link #REST_SKIP_SIMPLE} but which should be traced.
+     */
+    public static final String REST_SKIP_SIMPLE_NOT_SKIPPED = "skipSimpleNotSkipped";
+
     /**
      * Async web service endpoint that creates local span.
      */
     public static final String REST_ASYNC_LOCAL_SPAN = "asyncLocalSpan";
 
+    /**
+     * Async web service endpoint that parks the suspended request and creates a local span when it is resumed from
+     * another thread.
+     */
+    public static final String REST_ASYNC_PARKED = "asyncParked";
+
     /**
      * Web service endpoint that will return HTTP 500.
      */
@@ -89,6 +115,21 @@ public class TestServerWebServices {
      */
     public static final String REST_EXCEPTION = "exception";
 
+    /**
+     * Web service endpoint returning a CompletionStage that completes later with HTTP 200 and creates a local span.
+     */
+    public static final String REST_COMPLETION_STAGE = "completionStage";
+
+    /**
+     * Web service endpoint returning a CompletionStage that completes later with an exception and returns HTTP 500.
+     */
+    public static final String REST_COMPLETION_STAGE_EXCEPTION = "completionStageException";
+
+    /**
+     * How long the CompletionStage endpoints wait before completing the returned stage.
+     */
+    public static final long COMPLETION_STAGE_DELAY_MILLIS = 10;
+
     /**
      * Web service endpoint to test Traced annotations.
      */
@@ -99,6 +140,46 @@ public class TestServerWebServices {
      */
     public static final String REST_ANNOTATION_EXCEPTION = "annotationException";
 
+    /**
+     * Web service endpoint to test the sampling rate of Traced annotations.
+     */
+    public static final String REST_SAMPLED = "sampled";
+
+    /**
+     * Web service endpoint to test Traced annotations on methods returning a CompletionStage.
+     */
+    public static final String REST_ASYNC_ANNOTATIONS = "asyncAnnotations";
+
+    /**
+     * Web service endpoint to test the minimum span duration of Traced annotations.
+     */
+    public static final String REST_MIN_DURATION = "minDuration";
+
+    /**
+     * Web service endpoint to test aggregated Traced annotations invoked in nested loops.
+     */
+    public static final String REST_AGGREGATE = "aggregate";
+
+    /**
+     * Web service endpoint returning the HTTP status given by {@link #PARAM_STATUS}.
+     */
+    public static final String REST_STATUS = "status";
+
+    /**
+     * Query parameter for the number of invocations of each traced method.
+     */
+    public static final String PARAM_INVOCATIONS = "invocations";
+
+    /**
+     * Query parameter for the number of batches, each with its own local span.
+     */
+    public static final String PARAM_BATCHES = "batches";
+
+    /**
+     * Query parameter for the HTTP status code to return.
+     */
+    public static final String PARAM_STATUS = "status";
+
     /**
      * Query parameter that's a unique ID propagated down nested calls.
      */
@@ -119,6 +200,21 @@ public class TestServerWebServices {
      */
     public static final String REST_NESTED = "nested";
 
+    /**
+     * Web service endpoint that will call itself using an executor propagating the active span.
+     */
+    public static final String REST_NESTED_TRACED_EXECUTOR = "nestedTracedExecutor";
+
+    /**
+     * Web service endpoint that will call itself using a scheduled executor propagating the active span.
+     */
+    public static final String REST_NESTED_TRACED_SCHEDULED_EXECUTOR = "nestedTracedScheduledExecutor";
+
+    /**
+     * Delay of the nested calls scheduled by {@link #REST_NESTED_TRACED_SCHEDULED_EXECUTOR}.
+     */
+    private static final long NESTED_DELAY_MILLIS = 10;
+
     /**
      * Query parameter for the number of nested calls.
      */
@@ -149,6 +245,12 @@ public class TestServerWebServices {
      */
     public static final String REST_OPERATION_NAME = "operationName";
 
+    /**
+     * Web service endpoint returning the highest number of calls of {@link TestOperationNameProvider} for a single
+     * resource method.
+     */
+    public static final String REST_OPERATION_NAME_CALLS = "operationNameCalls";
+
     /**
      * Injected tracer.
      */
@@ -179,6 +281,36 @@ public class TestServerWebServices {
     @Inject
     private TestAnnotatedMethods testAnnotatedMethods;
 
+    /**
+     * Injected class with Traced annotation using sampling rates.
+     */
+    @Inject
+    private TestSampledAnnotatedClass testSampledAnnotatedClass;
+
+    /**
+     * Injected class with Traced annotation on methods returning a CompletionStage.
+     */
+    @Inject
+    private TestAsyncAnnotatedClass testAsyncAnnotatedClass;
+
+    /**
+     * Injected class with Traced annotation using a minimum span duration.
+     */
+    @Inject
+    private TestMinDurationAnnotatedClass testMinDurationAnnotatedClass;
+
+    /**
+     * Injected class with an aggregated Traced method.
+     */
+    @Inject
+    private TestAggregatedAnnotatedClass testAggregatedAnnotatedClass;
+
+    /**
+     * Injected queue of parked suspended requests.
+     */
+    @Inject
+    private ParkedRequests parkedRequests;
+
     /**
      * Simple JAXRS endpoint.
      * 
@@ -218,6 +350,22 @@ public class TestServerWebServices {
         asyncResponse.resume(Response.ok().build());
     }
 
+    /**
+     * Async endpoint which parks the suspended request. The request is resumed later from the resumer thread of
+     * {@link ParkedRequests}, which first creates a local span as a child of the server span.
+     *
+     * @param asyncResponse
+     *            holds state of the asynchronous processing
+     */
+    @GET
+    @Path(REST_ASYNC_PARKED)
+    @Produces(MediaType.TEXT_PLAIN)
+    public void asyncParked(@Suspended final AsyncResponse asyncResponse) {
+        Span activeSpan = tracer.activeSpan();
+        parkedRequests.park(asyncResponse, activeSpan == null ? null : activeSpan.context(),
+                parent -> finishChildSpan(startChildSpan(REST_LOCAL_SPAN, parent)));
+    }
+
     /**
      * Returns HTTP 500 error.
      * 
@@ -242,6 +390,52 @@ public class TestServerWebServices {
         throw ApplicationUtils.createExampleRuntimeException();
     }
 
+    /**
+     * Returns the requested HTTP status.
+     *
+     * @param status
+     *            HTTP status code
+     * @return response with the requested status
+     */
+    @GET
+    @Path(REST_STATUS)
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response status(@QueryParam(PARAM_STATUS) int status) {
+        return Response.status(status).build();
+    }
+
+    /**
+     * Endpoint returning a CompletionStage which is completed on another thread after a delay. A local span is
+     * created on that thread as a child of the server span, which is not active there.
+     *
+     * @return stage completed with an OK response
+     */
+    @GET
+    @Path(REST_COMPLETION_STAGE)
+    @Produces(MediaType.TEXT_PLAIN)
+    public CompletionStage<Response> completionStage() {
+        Span activeSpan = tracer.activeSpan();
+        SpanContext parent = activeSpan == null ? null : activeSpan.context();
+        return CompletableFuture.supplyAsync(() -> {
+            finishChildSpan(startChildSpan(REST_LOCAL_SPAN, parent));
+            return Response.ok().build();
+        }, CompletableFuture.delayedExecutor(COMPLETION_STAGE_DELAY_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Endpoint returning a CompletionStage which completes exceptionally on another thread after a delay.
+     *
+     * @return stage completed with an exception
+     */
+    @GET
+    @Path(REST_COMPLETION_STAGE_EXCEPTION)
+    @Produces(MediaType.TEXT_PLAIN)
+    public CompletionStage<Response> completionStageException() {
+        return CompletableFuture.supplyAsync(() -> {
+            throw ApplicationUtils.createExampleRuntimeException();
+        }, CompletableFuture.delayedExecutor(COMPLETION_STAGE_DELAY_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
     /**
      * Web service endpoint to test Traced annotations.
      * 
@@ -282,6 +476,111 @@ public class TestServerWebServices {
         return Response.ok().build();
     }
 
+    /**
+     * Web service endpoint to test the sampling rate of Traced annotations.
+     *
+     * @param invocations
+     *            How many times each traced method is invoked.
+     * @return HTTP 200 OK.
+     */
+    @GET
+    @Path(REST_SAMPLED)
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response sampled(@QueryParam(PARAM_INVOCATIONS) int invocations) {
+        for (int i = 0; i < invocations; i++) {
+            testSampledAnnotatedClass.sampledWithClassRate();
+            testSampledAnnotatedClass.neverSampled();
+            testSampledAnnotatedClass.alwaysSampled();
+        }
+        return Response.ok().build();
+    }
+
+    /**
+     * Web service endpoint to test the minimum span duration of Traced annotations.
+     *
+     * @return HTTP 200 OK.
+     * @throws InterruptedException
+     *             Interrupted while invoking the slow method.
+     */
+    @GET
+    @Path(REST_MIN_DURATION)
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response minDuration() throws InterruptedException {
+        testMinDurationAnnotatedClass.fast();
+        testMinDurationAnnotatedClass.slow();
+        try {
+            testMinDurationAnnotatedClass.fastWithException();
+        } catch (RuntimeException e) {
+            // expected, logged to the fastWithException span
+        }
+        testMinDurationAnnotatedClass.fastAlwaysKept();
+        testMinDurationAnnotatedClass.fastWithGlobalMinDuration();
+        return Response.ok().build();
+    }
+
+    /**
+     * Web service endpoint to test aggregated Traced annotations. Each batch activates its own local span and invokes
+     * the aggregated method in a loop, the second and third invocation of each batch fail. Then the aggregated method
+     * is invoked in a loop under the server span, without failures.
+     *
+     * @param invocations
+     *            How many times the aggregated method is invoked per loop.
+     * @param batches
+     *            How many batches are executed.
+     * @return HTTP 200 OK.
+     */
+    @GET
+    @Path(REST_AGGREGATE)
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response aggregate(@QueryParam(PARAM_INVOCATIONS) int invocations,
+            @QueryParam(PARAM_BATCHES) int batches) {
+        for (int batch = 0; batch < batches; batch++) {
+            Span batchSpan = startChildSpan(REST_LOCAL_SPAN);
+            try (Scope scope = tracer.activateSpan(batchSpan)) {
+                for (int i = 0; i < invocations; i++) {
+                    try {
+                        testAggregatedAnnotatedClass.lookup(i == 1 || i == 2);
+                    } catch (RuntimeException e) {
+                        // expected, logged to the aggregate span
+                    }
+                }
+            } finally {
+                finishChildSpan(batchSpan);
+            }
+        }
+        for (int i = 0; i < invocations; i++) {
+            testAggregatedAnnotatedClass.lookup(false);
+        }
+        return Response.ok().build();
+    }
+
+    /**
+     * Web service endpoint to test Traced annotations on methods returning a CompletionStage. All invocations are
+     * started before waiting for any of the returned stages.
+     *
+     * @param invocations
+     *            How many times each traced method is invoked.
+     * @return HTTP 200 OK.
+     * @throws InterruptedException
+     *             Interrupted while waiting for the stages.
+     */
+    @GET
+    @Path(REST_ASYNC_ANNOTATIONS)
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response asyncAnnotations(@QueryParam(PARAM_INVOCATIONS) int invocations) throws InterruptedException {
+        List<CompletableFuture<String>> stages = new ArrayList<>(2 * invocations);
+        for (int i = 0; i < invocations; i++) {
+            stages.add(testAsyncAnnotatedClass.completeLater().toCompletableFuture());
+            stages.add(testAsyncAnnotatedClass.failLater());
+        }
+        try {
+            CompletableFuture.allOf(stages.toArray(new CompletableFuture<?>[0])).get();
+        } catch (ExecutionException e) {
+            // expected, the stages returned by failLater complete exceptionally and are logged to their spans
+        }
+        return Response.ok().build();
+    }
+
     /**
      * Shouldn't create a span.
      * 
@@ -308,6 +607,18 @@ public class TestServerWebServices {
         return Response.ok().build();
     }
 
+    /**
+     * Returns the highest number of calls of {@link TestOperationNameProvider} for a single resource method.
+     *
+     * @return response with the number of calls
+     */
+    @GET
+    @Path(REST_OPERATION_NAME_CALLS)
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response operationNameCalls() {
+        return Response.ok(String.valueOf(TestOperationNameProvider.getMaxCalls())).build();
+    }
+
     /**
      * Web service call that calls itself {@code nestDepth} - 1 times.
      *
@@ -344,22 +655,7 @@ public class TestServerWebServices {
             throws InterruptedException, ExecutionException {
 
         if (nestDepth > 0) {
-            Map<String, Object> nestParameters = new HashMap<String, Object>();
-
-            String target;
-            if (failNest) {
-                target = REST_ERROR;
-            } else {
-                target = REST_NESTED;
-                nestParameters.put(PARAM_NEST_DEPTH, nestDepth - 1);
-                nestParameters.put(PARAM_NEST_BREADTH, 1);
-                nestParameters.put(PARAM_UNIQUE_ID, uniqueID);
-                nestParameters.put(PARAM_FAIL_NEST, false);
-                nestParameters.put(PARAM_ASYNC, async);
-            }
-
-            String requestUrl = getRequestPath(
-                    REST_TEST_SERVICE_PATH, target, nestParameters);
+            String requestUrl = getNestedRequestPath(REST_NESTED, nestDepth, uniqueID, failNest, async);
 
             List<Future<Response>> futures = new ArrayList<>();
 
@@ -379,6 +675,111 @@ public class TestServerWebServices {
         return Response.ok().build();
     }
 
+    /**
+     * Same as {@link #nested(int, int, String, boolean, boolean)} but the nested calls are submitted to an executor
+     * wrapped by {@link TracedExecutors#wrap(ExecutorService)}, which propagates the active span to its threads.
+     *
+     * @param nestDepth
+     *            The depth of nesting to use when implementing the request.
+     * @param nestBreadth
+     *            The breadth of nested calls.
+     * @param uniqueID
+     *            Unique ID propagated down nested calls.
+     * @param failNest
+     *            True if nested response should be an error
+     * @param async
+     *            Whether the nested request is executed asynchronously.
+     * @return OK response
+     * @throws ExecutionException
+     *             Error executing nested web service.
+     * @throws InterruptedException
+     *             Error executing nested web service.
+     */
+    @GET
+    @Path(REST_NESTED_TRACED_EXECUTOR)
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response nestedTracedExecutor(@QueryParam(PARAM_NEST_DEPTH) int nestDepth,
+            @QueryParam(PARAM_NEST_BREADTH) int nestBreadth,
+            @QueryParam(PARAM_UNIQUE_ID) String uniqueID,
+            @QueryParam(PARAM_FAIL_NEST) boolean failNest,
+            @QueryParam(PARAM_ASYNC) boolean async)
+            throws InterruptedException, ExecutionException {
+
+        if (nestDepth > 0) {
+            String requestUrl =
+                    getNestedRequestPath(REST_NESTED_TRACED_EXECUTOR, nestDepth, uniqueID, failNest, async);
+
+            ExecutorService executorService = TracedExecutors.wrap(Executors.newFixedThreadPool(nestBreadth));
+            try {
+                List<Future<Void>> futures = new ArrayList<>();
+                for (int i = 0; i < nestBreadth; i++) {
+                    futures.add(executorService.submit(() -> executeNested(requestUrl, async)));
+                }
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executorService.shutdown();
+            }
+        }
+
+        return Response.ok().build();
+    }
+
+    /**
+     * Same as {@link #nested(int, int, String, boolean, boolean)} but the nested calls are scheduled with a delay on an
+     * executor wrapped by {@link TracedExecutors#wrap(ScheduledExecutorService)}, which propagates the active span to
+     * its threads.
+     *
+     * @param nestDepth
+     *            The depth of nesting to use when implementing the request.
+     * @param nestBreadth
+     *            The breadth of nested calls.
+     * @param uniqueID
+     *            Unique ID propagated down nested calls.
+     * @param failNest
+     *            True if nested response should be an error
+     * @param async
+     *            Whether the nested request is executed asynchronously.
+     * @return OK response
+     * @throws ExecutionException
+     *             Error executing nested web service.
+     * @throws InterruptedException
+     *             Error executing nested web service.
+     */
+    @GET
+    @Path(REST_NESTED_TRACED_SCHEDULED_EXECUTOR)
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response nestedTracedScheduledExecutor(@QueryParam(PARAM_NEST_DEPTH) int nestDepth,
+            @QueryParam(PARAM_NEST_BREADTH) int nestBreadth,
+            @QueryParam(PARAM_UNIQUE_ID) String uniqueID,
+            @QueryParam(PARAM_FAIL_NEST) boolean failNest,
+            @QueryParam(PARAM_ASYNC) boolean async)
+            throws InterruptedException, ExecutionException {
+
+        if (nestDepth > 0) {
+            String requestUrl = getNestedRequestPath(REST_NESTED_TRACED_SCHEDULED_EXECUTOR, nestDepth, uniqueID,
+                    failNest, async);
+
+            ScheduledExecutorService executorService =
+                    TracedExecutors.wrap(Executors.newScheduledThreadPool(nestBreadth));
+            try {
+                List<Future<Void>> futures = new ArrayList<>();
+                for (int i = 0; i < nestBreadth; i++) {
+                    futures.add(executorService.schedule(() -> executeNested(requestUrl, async),
+                            NESTED_DELAY_MILLIS, TimeUnit.MILLISECONDS));
+                }
+                for (Future<Void> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executorService.shutdown();
+            }
+        }
+
+        return Response.ok().build();
+    }
+
     /**
      * Endpoint which creates local span.
      * 
@@ -388,6 +789,41 @@ public class TestServerWebServices {
     @Path(REST_SKIP_SIMPLE)
     @Produces(MediaType.TEXT_PLAIN)
     public Response skipSimple() {
+        return activeSpanResponse();
+    }
+
+    /**
+     * Endpoint which should not be traced if the path parameter is numeric.
+     *
+     * @param id
+     *            Path parameter.
+     * @return OK response if there is an active span, otherwise No Content
+     */
+    @GET
+    @Path(REST_SKIP_REGEX)
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response skipRegex(@PathParam("id") String id) {
+        return activeSpanResponse();
+    }
+
+    /**
+     * Endpoint which should be traced even though its path starts with a skipped path.
+     *
+     * @return OK response if there is an active span, otherwise No Content
+     */
+    @GET
+    @Path(REST_SKIP_SIMPLE_NOT_SKIPPED)
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response skipSimpleNotSkipped() {
+        return activeSpanResponse();
+    }
+
+    /**
+     * Create a response whose status tells whether there is an active span.
+     *
+     * @return OK response if there is an active span, otherwise No Content
+     */
+    private Response activeSpanResponse() {
         boolean isActiveSpan = tracer.activeSpan() != null;
         return Response.ok().status(isActiveSpan ? Status.OK.getStatusCode() : Status.NO_CONTENT.getStatusCode())
                 .build();
@@ -406,6 +842,62 @@ public class TestServerWebServices {
         nestedResponse.close();
     }
 
+    /**
+     * Execute a nested web service call, waiting for the response.
+     * 
+     * @param requestUrl
+     *            The request URL.
+     * @param async
+     *            Whether to execute the request asynchronously.
+     * @return Nothing, so that it can be used as a {@link java.util.concurrent.Callable}.
+     * @throws ExecutionException
+     *             Error executing nested web service.
+     * @throws InterruptedException
+     *             Error executing nested web service.
+     */
+    private Void executeNested(String requestUrl, boolean async) throws InterruptedException, ExecutionException {
+        if (async) {
+            executeNestedAsync(requestUrl).get().close();
+        } else {
+            executeNested(requestUrl);
+        }
+        return null;
+    }
+
+    /**
+     * Create the URL of the nested call made by a nesting endpoint.
+     *
+     * @param nestPath
+     *            The nesting endpoint, called if the nested call shouldn't fail.
+     * @param nestDepth
+     *            The depth of nesting of the calling request.
+     * @param uniqueID
+     *            Unique ID propagated down nested calls.
+     * @param failNest
+     *            True if nested response should be an error
+     * @param async
+     *            Whether the nested request is executed asynchronously.
+     * @return Full URL for the nested call.
+     */
+    private String getNestedRequestPath(String nestPath, int nestDepth, String uniqueID, boolean failNest,
+            boolean async) {
+        Map<String, Object> nestParameters = new HashMap<String, Object>();
+
+        String target;
+        if (failNest) {
+            target = REST_ERROR;
+        } else {
+            target = nestPath;
+            nestParameters.put(PARAM_NEST_DEPTH, nestDepth - 1);
+            nestParameters.put(PARAM_NEST_BREADTH, 1);
+            nestParameters.put(PARAM_UNIQUE_ID, uniqueID);
+            nestParameters.put(PARAM_FAIL_NEST, false);
+            nestParameters.put(PARAM_ASYNC, async);
+        }
+
+        return getRequestPath(REST_TEST_SERVICE_PATH, target, nestParameters);
+    }
+
     /**
      * Execute a nested web service call asynchronously.
      * 
@@ -471,9 +963,23 @@ public class TestServerWebServices {
      */
     private Span startChildSpan(String operationName) {
         Span activeSpan = tracer.activeSpan();
+        return startChildSpan(operationName, activeSpan == null ? null : activeSpan.context());
+    }
+
+    /**
+     * Start a new child span of the given span context, for threads on which the parent span is not active.
+     *
+     * @param operationName
+     *            The operation name to give the new child span.
+     * @param parent
+     *            The context of the parent span, may be null.
+     *
+     * @return The new child span.
+     */
+    private Span startChildSpan(String operationName, SpanContext parent) {
         Tracer.SpanBuilder spanBuilder = tracer.buildSpan(operationName);
-        if (activeSpan != null) {
-            spanBuilder.asChildOf(activeSpan.context());
+        if (parent != null) {
+            spanBuilder.asChildOf(parent);
         }
         Span childSpan = spanBuilder.start();
         childSpan.setTag(LOCAL_SPAN_TAG_KEY, LOCAL_SPAN_TAG_VALUE);
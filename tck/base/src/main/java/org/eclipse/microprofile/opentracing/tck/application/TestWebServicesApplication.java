@@ -38,6 +38,7 @@ public class TestWebServicesApplication extends Application {
     public Set<Class<?>> getClasses() {
         return new HashSet<>(Arrays.asList(
                 TracerWebService.class,
+                AbortingRequestFilter.class,
                 TestServerWebServices.class,
                 TestServerSkipAllWebServices.class,
                 TestServerWebServicesWithOperationName.class,
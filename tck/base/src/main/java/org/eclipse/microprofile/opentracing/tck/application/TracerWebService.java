@@ -19,10 +19,15 @@
 
 package org.eclipse.microprofile.opentracing.tck.application;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.microprofile.opentracing.Traced;
 import org.eclipse.microprofile.opentracing.tck.tracer.TestSpan;
@@ -31,9 +36,11 @@ import org.eclipse.microprofile.opentracing.tck.tracer.TestTracer;
 import io.opentracing.Tracer;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 
 /**
@@ -57,6 +64,27 @@ public class TracerWebService {
      */
     public static final String REST_CLEAR_TRACER = "clearTracer";
 
+    /**
+     * Query parameter of the getTracer call with the number of finished spans to skip.
+     */
+    public static final String PARAM_OFFSET = "offset";
+
+    /**
+     * Query parameter of the getTracer call with the maximum number of spans to return.
+     */
+    public static final String PARAM_LIMIT = "limit";
+
+    /**
+     * Method handles of the mock tracer classes, resolved on first use.
+     */
+    private static final ClassValue<ConcurrentMap<String, MethodHandle>> METHOD_HANDLES =
+            new ClassValue<ConcurrentMap<String, MethodHandle>>() {
+                @Override
+                protected ConcurrentMap<String, MethodHandle> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
     /**
      * Mock tracer.
      */
@@ -67,6 +95,13 @@ public class TracerWebService {
      * Get details about completed spans. Returns a {@link org.eclipse.microprofile.opentracing.tck.tracer.TestTracer}
      * which has information on the spans.
      * 
+     * Spans are returned in the order in which they finished. {@code offset} and {@code limit} allow large span sets
+     * to be pulled incrementally; the default returns all spans.
+     * 
+     * @param offset
+     *            Number of finished spans to skip
+     * @param limit
+     *            Maximum number of spans to return, a negative value returns all remaining spans
      * @return Injected tracer
      * @throws SecurityException
      *             Reflection issues
@@ -83,47 +118,39 @@ public class TracerWebService {
     @GET
     @Path(TracerWebService.REST_GET_TRACER)
     @Produces(MediaType.APPLICATION_JSON)
-    public Tracer getTracer() throws NoSuchMethodException, SecurityException,
+    public Tracer getTracer(@QueryParam(PARAM_OFFSET) @DefaultValue("0") int offset,
+            @QueryParam(PARAM_LIMIT) @DefaultValue("-1") int limit) throws NoSuchMethodException, SecurityException,
             IllegalAccessException, IllegalArgumentException,
             InvocationTargetException {
         TestTracer testTracer = new TestTracer();
         List<TestSpan> spans = new ArrayList<TestSpan>();
 
         try {
-            Iterable<?> finishedSpans = (Iterable<?>) tracer.getClass()
-                    .getMethod("finishedSpans").invoke(tracer);
-            for (Object finishedSpan : finishedSpans) {
+            List<?> finishedSpans = (List<?>) invoke(tracer, "finishedSpans");
+            int from = Math.min(Math.max(offset, 0), finishedSpans.size());
+            int to = limit < 0 ? finishedSpans.size() : (int) Math.min(finishedSpans.size(), (long) from + limit);
+            for (Object finishedSpan : finishedSpans.subList(from, to)) {
                 TestSpan testSpan = new TestSpan();
 
-                testSpan.setStartMicros((Long) finishedSpan.getClass()
-                        .getMethod("startMicros").invoke(finishedSpan));
+                testSpan.setStartMicros((Long) invoke(finishedSpan, "startMicros"));
 
-                testSpan.setFinishMicros((Long) finishedSpan.getClass()
-                        .getMethod("finishMicros").invoke(finishedSpan));
+                testSpan.setFinishMicros((Long) invoke(finishedSpan, "finishMicros"));
 
-                testSpan.setCachedOperationName((String) finishedSpan.getClass()
-                        .getMethod("operationName").invoke(finishedSpan));
+                testSpan.setCachedOperationName((String) invoke(finishedSpan, "operationName"));
 
-                testSpan.setParentId((Long) finishedSpan.getClass()
-                        .getMethod("parentId").invoke(finishedSpan));
+                testSpan.setParentId((Long) invoke(finishedSpan, "parentId"));
 
-                Object context = finishedSpan.getClass().getMethod("context")
-                        .invoke(finishedSpan);
+                Object context = invoke(finishedSpan, "context");
 
-                testSpan.setSpanId((Long) context.getClass().getMethod("spanId")
-                        .invoke(context));
+                testSpan.setSpanId((Long) invoke(context, "spanId"));
 
-                testSpan.setTraceId((Long) context.getClass()
-                        .getMethod("traceId").invoke(context));
+                testSpan.setTraceId((Long) invoke(context, "traceId"));
 
-                testSpan.setTags((Map<String, Object>) finishedSpan.getClass()
-                        .getMethod("tags").invoke(finishedSpan));
+                testSpan.setTags((Map<String, Object>) invoke(finishedSpan, "tags"));
 
-                List<?> logEntries = (List<?>) finishedSpan.getClass()
-                        .getMethod("logEntries").invoke(finishedSpan);
+                List<?> logEntries = (List<?>) invoke(finishedSpan, "logEntries");
                 for (Object logEntry : logEntries) {
-                    testSpan.getLogEntries().add((Map<String, ?>) logEntry
-                            .getClass().getMethod("fields").invoke(logEntry));
+                    testSpan.getLogEntries().add((Map<String, ?>) invoke(logEntry, "fields"));
                 }
 
                 spans.add(testSpan);
@@ -142,6 +169,34 @@ public class TracerWebService {
         return testTracer;
     }
 
+    /**
+     * Invoke a public no-argument method through a {@link MethodHandle} resolved once per class.
+     * 
+     * @param target
+     *            Object to invoke the method on
+     * @param methodName
+     *            Name of the method
+     * @return Value returned by the method
+     */
+    private static Object invoke(Object target, String methodName)
+            throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+        ConcurrentMap<String, MethodHandle> handles = METHOD_HANDLES.get(target.getClass());
+        MethodHandle handle = handles.get(methodName);
+        if (handle == null) {
+            handle = MethodHandles.publicLookup()
+                    .unreflect(target.getClass().getMethod(methodName))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            handles.putIfAbsent(methodName, handle);
+        }
+        try {
+            return (Object) handle.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
     /**
      * Clear accumulated spans in the Tracer.
      * 
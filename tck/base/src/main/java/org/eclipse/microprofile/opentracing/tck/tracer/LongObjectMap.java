@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.eclipse.microprofile.opentracing.tck.tracer;
+
+/**
+ * Open addressing hash map with primitive {@code long} keys, avoiding boxing of span and trace ids. Values must not be
+ * {@code null}.
+ *
+ * @param <V>
+ *            Type of the values.
+ */
+final class LongObjectMap<V> {
+
+    private static final int MIN_CAPACITY = 4;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+
+    /**
+     * Create a map sized for {@code expectedSize} entries.
+     *
+     * @param expectedSize
+     *            Expected number of entries.
+     */
+    LongObjectMap(final int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        keys = new long[capacity];
+        values = new Object[capacity];
+    }
+
+    /**
+     * Return the value mapped to {@code key}.
+     *
+     * @param key
+     *            The key.
+     * @return The value or {@code null} if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    V get(final long key) {
+        int mask = keys.length - 1;
+        for (int i = index(key, mask);; i = (i + 1) & mask) {
+            Object value = values[i];
+            if (value == null || keys[i] == key) {
+                return (V) value;
+            }
+        }
+    }
+
+    /**
+     * Map {@code key} to {@code value}, replacing any previous value.
+     *
+     * @param key
+     *            The key.
+     * @param value
+     *            The value, not {@code null}.
+     */
+    void put(final long key, final V value) {
+        if (value == null) {
+            throw new NullPointerException("value");
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize();
+        }
+        insert(keys, values, key, value);
+    }
+
+    /**
+     * Return the number of entries.
+     *
+     * @return Number of entries.
+     */
+    int size() {
+        return size;
+    }
+
+    private void insert(final long[] targetKeys, final Object[] targetValues, final long key, final Object value) {
+        int mask = targetKeys.length - 1;
+        for (int i = index(key, mask);; i = (i + 1) & mask) {
+            if (targetValues[i] == null) {
+                targetKeys[i] = key;
+                targetValues[i] = value;
+                size++;
+                return;
+            }
+            if (targetKeys[i] == key) {
+                targetValues[i] = value;
+                return;
+            }
+        }
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[oldKeys.length << 1];
+        values = new Object[oldValues.length << 1];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                insert(keys, values, oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    /**
+     * Spread the key bits since span ids of the mock tracer are sequential.
+     */
+    private static int index(final long key, final int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 
 import io.opentracing.Span;
 import io.opentracing.SpanContext;
@@ -441,7 +442,7 @@ public class TestSpan implements Span {
                         return false;
                     }
 
-                    if (!logEntry.getKey().equals("error.object")) {
+                    if (!isValueIgnored(logEntry.getKey())) {
                         if (!valY.equals(logEntry.getValue())) {
                             System.err.printf("Log values do not match key=%s, %s, %s\n\n\n\n", logEntry.getKey(),
                                     logEntry.getValue(), valY);
@@ -457,10 +458,34 @@ public class TestSpan implements Span {
     }
 
     /**
-     * {@inheritDoc}
+     * Hash of the parts that are checked in equals. The value of the {@code error.object} log field is ignored like
+     * in equals.
      */
     @Override
     public int hashCode() {
-        return super.hashCode();
+        int h = Objects.hashCode(cachedOperationName);
+        h = 31 * h + Objects.hashCode(tags);
+        for (Map<String, ?> logFields : logEntries) {
+            int logHash = 0;
+            for (Map.Entry<String, ?> logField : logFields.entrySet()) {
+                logHash += isValueIgnored(logField.getKey())
+                        ? logField.getKey().hashCode()
+                        : Objects.hashCode(logField.getKey()) ^ Objects.hashCode(logField.getValue());
+            }
+            h = 31 * h + logHash;
+        }
+        return h;
+    }
+
+    /**
+     * Whether only the presence of a log field is compared, because its value differs between the returned and the
+     * expected span.
+     *
+     * @param key
+     *            Log field key.
+     * @return true for the {@code error.object} log field.
+     */
+    private static boolean isValueIgnored(String key) {
+        return key.equals("error.object");
     }
 }
@@ -18,9 +18,17 @@
  */
 package org.eclipse.microprofile.opentracing.tck.tracer;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Consumer;
 
 /**
@@ -166,93 +174,272 @@ public class TestSpanTree implements ConsumableTree<TestSpan> {
         public String toJSON(final String nodeName, final int indentationLevel,
                 final String indentationCharacters) {
             StringBuilder sb = new StringBuilder();
-            String indent = String.join("", Collections
-                    .nCopies(indentationLevel, indentationCharacters));
-            String indent2 = indent + indentationCharacters;
-            sb.append(indent);
-            sb.append('{');
-            sb.append(System.lineSeparator());
-            sb.append(indent2);
-            sb.append(nodeName);
-            sb.append(": \"");
-            sb.append(data);
-            if (children.size() > 0) {
-                sb.append("\",");
-                sb.append(System.lineSeparator());
-                sb.append(indent2);
-                sb.append("children: [");
-                sb.append(System.lineSeparator());
-
-                for (int i = 0; i < children.size(); i++) {
-                    TreeNode<T> child = children.get(i);
-                    sb.append(child.toJSON(nodeName, indentationLevel + 2,
-                            indentationCharacters));
-                    if (i < children.size() - 1) {
-                        sb.append(',');
+            try {
+                writeJSON(sb, nodeName, indentationLevel, indentationCharacters);
+            } catch (IOException e) {
+                // StringBuilder doesn't throw IOException
+                throw new UncheckedIOException(e);
+            }
+            return sb.toString();
+        }
+
+        /**
+         * Write the JSON representation to {@code out} in a single iterative pass, without building intermediate
+         * strings for subtrees.
+         * 
+         * @param out
+         *            Destination of the JSON, e.g. a {@link java.io.Writer} or {@link StringBuilder}.
+         * @param nodeName
+         *            Node name to display in JSON.
+         * @param indentationLevel
+         *            How many instances of indentationCharacters
+         * @param indentationCharacters
+         *            The indentation characters to use
+         * @throws IOException
+         *             Error writing to {@code out}.
+         */
+        public void writeJSON(final Appendable out, final String nodeName, final int indentationLevel,
+                final String indentationCharacters) throws IOException {
+            List<String> indents = new ArrayList<>();
+            Deque<JSONFrame<T>> pending = new ArrayDeque<>();
+            pending.push(new JSONFrame<>(this, indentationLevel));
+            out.append(indent(indents, indentationLevel, indentationCharacters));
+            writeJSONStart(out, this, nodeName, indent(indents, indentationLevel + 1, indentationCharacters));
+            while (!pending.isEmpty()) {
+                JSONFrame<T> frame = pending.peek();
+                List<TreeNode<T>> frameChildren = frame.node.children;
+                if (frame.nextChild < frameChildren.size()) {
+                    TreeNode<T> child = frameChildren.get(frame.nextChild++);
+                    int childLevel = frame.level + 2;
+                    out.append(indent(indents, childLevel, indentationCharacters));
+                    writeJSONStart(out, child, nodeName, indent(indents, childLevel + 1, indentationCharacters));
+                    pending.push(new JSONFrame<>(child, childLevel));
+                    continue;
+                }
+                pending.pop();
+                if (!frameChildren.isEmpty()) {
+                    out.append(indent(indents, frame.level + 1, indentationCharacters));
+                    out.append(']');
+                }
+                out.append(System.lineSeparator());
+                out.append(indent(indents, frame.level, indentationCharacters));
+                out.append('}');
+                JSONFrame<T> parent = pending.peek();
+                if (parent != null) {
+                    if (parent.nextChild < parent.node.children.size()) {
+                        out.append(',');
                     }
-                    sb.append(System.lineSeparator());
+                    out.append(System.lineSeparator());
                 }
+            }
+        }
 
-                sb.append(indent2);
-                sb.append(']');
+        /**
+         * Write the opening of a node up to its data, and the opening of the children array if it has children. The
+         * indentation of the node itself must already be written.
+         */
+        private static void writeJSONStart(final Appendable out, final TreeNode<?> node, final String nodeName,
+                final String indent2) throws IOException {
+            out.append('{');
+            out.append(System.lineSeparator());
+            out.append(indent2);
+            out.append(nodeName);
+            out.append(": \"");
+            out.append(String.valueOf(node.data));
+            if (node.children.size() > 0) {
+                out.append("\",");
+                out.append(System.lineSeparator());
+                out.append(indent2);
+                out.append("children: [");
+                out.append(System.lineSeparator());
             } else {
-                sb.append('\"');
+                out.append('\"');
             }
-            sb.append(System.lineSeparator());
-            sb.append(indent);
-            sb.append('}');
-            return sb.toString();
         }
 
         /**
-         * {@inheritDoc}
+         * Return the indentation for {@code level}, caching the indentation of each level.
+         */
+        private static String indent(final List<String> indents, final int level,
+                final String indentationCharacters) {
+            if (indents.isEmpty()) {
+                indents.add("");
+            }
+            while (indents.size() <= level) {
+                indents.add(indents.get(indents.size() - 1) + indentationCharacters);
+            }
+            return indents.get(level);
+        }
+
+        /**
+         * Node being written by {@link TreeNode#writeJSON(Appendable, String, int, String)} and the index of its next
+         * child to write.
+         */
+        private static final class JSONFrame<T> {
+            private final TreeNode<T> node;
+            private final int level;
+            private int nextChild;
+
+            private JSONFrame(final TreeNode<T> node, final int level) {
+                this.node = node;
+                this.level = level;
+            }
+        }
+
+        /**
+         * Compare the structure and data of two trees. The order of children is not significant: siblings are paired
+         * by their structural hash, which takes O(k) per node with k children, so subtrees finishing in any order
+         * match. The comparison is iterative so that deep trees don't exhaust the stack, and subtrees whose hashes
+         * differ are rejected without comparing their data.
          */
         @Override
         public boolean equals(final Object obj) {
-            @SuppressWarnings("unchecked")
-            TreeNode<T> otherNode = (TreeNode<T>) obj;
-            if (otherNode != null) {
-                if (!data.equals(otherNode.data)) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof TreeNode)) {
+                return false;
+            }
+            return equalTrees(this, (TreeNode<?>) obj, new IdentityHashMap<>());
+        }
+
+        /**
+         * Compare two trees, see {@link #equals(Object)}.
+         * 
+         * @param hashes
+         *            Structural hashes of the subtrees computed during this comparison
+         */
+        private static boolean equalTrees(final TreeNode<?> first, final TreeNode<?> second,
+                final Map<TreeNode<?>, Integer> hashes) {
+            Deque<TreeNode<?>> pending = new ArrayDeque<>();
+            pending.push(first);
+            pending.push(second);
+            while (!pending.isEmpty()) {
+                TreeNode<?> y = pending.pop();
+                TreeNode<?> x = pending.pop();
+                if (x == y) {
+                    continue;
+                }
+                if (structuralHash(x, hashes) != structuralHash(y, hashes)
+                        || x.children.size() != y.children.size()
+                        || !Objects.equals(x.data, y.data)) {
                     return false;
                 }
-                if (otherNode.children.size() != children.size()) {
-                    System.err
-                            .println("MISMATCH: Child span counts don't match: "
-                                    + children.size() + " ; "
-                                    + otherNode.children.size());
+                if (x.children.size() == 1) {
+                    pending.push(x.children.get(0));
+                    pending.push(y.children.get(0));
+                } else if (!pairChildren(x, y, pending, hashes)) {
                     return false;
                 }
-                for (int i = 0; i < children.size(); i++) {
-                    TreeNode<T> x = children.get(i);
-                    TreeNode<T> y = otherNode.children.get(i);
-                    if (!x.equals(y)) {
-                        return false;
-                    }
+            }
+            return true;
+        }
+
+        /**
+         * Pair the children of {@code x} with children of {@code y} having the same hash and push the pairs to
+         * {@code pending} for comparison. If several children of {@code y} have the same hash, the child of {@code x}
+         * is paired with one that is equal to it, so that a hash collision between siblings doesn't cause a false
+         * mismatch.
+         * 
+         * @return false if a child of {@code x} has no counterpart in {@code y}
+         */
+        private static boolean pairChildren(final TreeNode<?> x, final TreeNode<?> y,
+                final Deque<TreeNode<?>> pending, final Map<TreeNode<?>, Integer> hashes) {
+            Map<Integer, Deque<TreeNode<?>>> candidates = new HashMap<>();
+            for (TreeNode<?> child : y.children) {
+                candidates.computeIfAbsent(structuralHash(child, hashes), h -> new ArrayDeque<>()).add(child);
+            }
+            for (TreeNode<?> child : x.children) {
+                Deque<TreeNode<?>> sameHash = candidates.get(structuralHash(child, hashes));
+                if (sameHash == null || sameHash.isEmpty()) {
+                    return false;
+                }
+                if (sameHash.size() == 1) {
+                    pending.push(child);
+                    pending.push(sameHash.poll());
+                } else if (!removeEqual(sameHash, child, hashes)) {
+                    return false;
                 }
-                return true;
             }
-            return super.equals(obj);
+            return true;
         }
 
         /**
-         * {@inheritDoc}
+         * Remove the first node of {@code candidates} which is equal to {@code node}.
+         * 
+         * @return false if no candidate is equal to {@code node}
+         */
+        private static boolean removeEqual(final Deque<? extends TreeNode<?>> candidates, final TreeNode<?> node,
+                final Map<TreeNode<?>, Integer> hashes) {
+            Iterator<? extends TreeNode<?>> iterator = candidates.iterator();
+            while (iterator.hasNext()) {
+                if (equalTrees(node, iterator.next(), hashes)) {
+                    iterator.remove();
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Structural hash of the subtree, combining the hash of the data with the hashes of the children. Children
+         * are combined commutatively, consistent with {@link #equals(Object)} ignoring their order. The hash is
+         * recomputed on each call, so the tree and the data of its spans may be modified between comparisons, e.g.
+         * when tags are filtered.
          */
         @Override
         public int hashCode() {
-            return super.hashCode();
+            return structuralHash(this, new IdentityHashMap<>());
+        }
+
+        /**
+         * Compute the structural hash of {@code root} iteratively, see {@link #hashCode()}. The hashes of the
+         * subtrees are stored in {@code hashes}, so each subtree is hashed once per comparison.
+         */
+        private static int structuralHash(final TreeNode<?> root, final Map<TreeNode<?>, Integer> hashes) {
+            Integer rootHash = hashes.get(root);
+            if (rootHash != null) {
+                return rootHash;
+            }
+            Deque<TreeNode<?>> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                TreeNode<?> node = pending.peek();
+                boolean childrenHashed = true;
+                for (TreeNode<?> child : node.children) {
+                    if (!hashes.containsKey(child)) {
+                        pending.push(child);
+                        childrenHashed = false;
+                    }
+                }
+                if (childrenHashed) {
+                    pending.pop();
+                    int childrenHash = 0;
+                    for (TreeNode<?> child : node.children) {
+                        childrenHash += mix(hashes.get(child));
+                    }
+                    hashes.put(node, 31 * Objects.hashCode(node.data) + childrenHash);
+                }
+            }
+            return hashes.get(root);
         }
 
         /**
-         * Recursively visit all nodes with the lambda.
+         * Visit all nodes with the lambda, parents before their children.
          * 
          * @param visitor
          *            Lambda
          */
         @Override
         public void visitTree(final Consumer<? super T> visitor) {
-            visitor.accept(this.data);
-            for (TreeNode<T> child : this.children) {
-                child.visitTree(visitor);
+            Deque<TreeNode<T>> pending = new ArrayDeque<>();
+            pending.push(this);
+            while (!pending.isEmpty()) {
+                TreeNode<T> node = pending.pop();
+                visitor.accept(node.data);
+                for (int i = node.children.size() - 1; i >= 0; i--) {
+                    pending.push(node.children.get(i));
+                }
             }
         }
 
@@ -271,46 +458,68 @@ public class TestSpanTree implements ConsumableTree<TestSpan> {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        sb.append('[');
-        sb.append(System.lineSeparator());
+        try {
+            writeJSON(sb);
+        } catch (IOException e) {
+            // StringBuilder doesn't throw IOException
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Write the JSON representation of all root spans to {@code out}, see
+     * {@link TreeNode#writeJSON(Appendable, String, int, String)}.
+     * 
+     * @param out
+     *            Destination of the JSON, e.g. a {@link java.io.Writer} or {@link StringBuilder}.
+     * @throws IOException
+     *             Error writing to {@code out}.
+     */
+    public void writeJSON(final Appendable out) throws IOException {
+        out.append('[');
+        out.append(System.lineSeparator());
 
         for (int i = 0; i < rootSpans.size(); i++) {
-            TreeNode<TestSpan> node = rootSpans.get(i);
-            sb.append(node.toJSON(nodeName, 1, "  "));
+            rootSpans.get(i).writeJSON(out, nodeName, 1, "  ");
             if (i < rootSpans.size() - 1) {
-                sb.append(',');
+                out.append(',');
             }
-            sb.append(System.lineSeparator());
+            out.append(System.lineSeparator());
         }
 
-        sb.append(']');
-        sb.append(System.lineSeparator());
-        return sb.toString();
+        out.append(']');
+        out.append(System.lineSeparator());
     }
 
     /**
-     * {@inheritDoc}
+     * Compare the root spans of two trees. Like children, root spans may be in any order.
      */
     @Override
     public boolean equals(final Object obj) {
-        TestSpanTree otherTree = (TestSpanTree) obj;
-        if (otherTree != null) {
-            if (otherTree.rootSpans.size() != rootSpans.size()) {
-                System.err.println("MISMATCH: Root span counts don't match: "
-                        + rootSpans.size() + " ; "
-                        + otherTree.rootSpans.size());
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof TestSpanTree)) {
+            return false;
+        }
+        List<TreeNode<TestSpan>> otherRootSpans = ((TestSpanTree) obj).rootSpans;
+        if (otherRootSpans.size() != rootSpans.size()) {
+            return false;
+        }
+        Map<TreeNode<?>, Integer> hashes = new IdentityHashMap<>();
+        Map<Integer, Deque<TreeNode<TestSpan>>> unmatched = new HashMap<>();
+        for (TreeNode<TestSpan> rootSpan : rootSpans) {
+            unmatched.computeIfAbsent(TreeNode.structuralHash(rootSpan, hashes), h -> new ArrayDeque<>())
+                    .add(rootSpan);
+        }
+        for (TreeNode<TestSpan> otherRootSpan : otherRootSpans) {
+            Deque<TreeNode<TestSpan>> sameHash = unmatched.get(TreeNode.structuralHash(otherRootSpan, hashes));
+            if (sameHash == null || !TreeNode.removeEqual(sameHash, otherRootSpan, hashes)) {
                 return false;
             }
-            for (int i = 0; i < rootSpans.size(); i++) {
-                TreeNode<TestSpan> x = rootSpans.get(i);
-                TreeNode<TestSpan> y = otherTree.rootSpans.get(i);
-                if (!x.equals(y)) {
-                    return false;
-                }
-            }
-            return true;
         }
-        return super.equals(obj);
+        return true;
     }
 
     /**
@@ -318,7 +527,20 @@ public class TestSpanTree implements ConsumableTree<TestSpan> {
      */
     @Override
     public int hashCode() {
-        return super.hashCode();
+        Map<TreeNode<?>, Integer> hashes = new IdentityHashMap<>();
+        int h = 0;
+        for (TreeNode<TestSpan> rootSpan : rootSpans) {
+            h += mix(TreeNode.structuralHash(rootSpan, hashes));
+        }
+        return h;
+    }
+
+    /**
+     * Scramble the bits of a hash before it is summed, so that sums of similar hashes don't collide easily.
+     */
+    private static int mix(final int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
     }
 
     /**
@@ -19,9 +19,7 @@
 package org.eclipse.microprofile.opentracing.tck.tracer;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.eclipse.microprofile.opentracing.tck.tracer.TestSpanTree.TreeNode;
 
@@ -40,6 +38,12 @@ import jakarta.enterprise.inject.Alternative;
 @Alternative
 public class TestTracer implements Tracer {
 
+    /**
+     * Initial capacities of the span tree index.
+     */
+    private static final int MIN_TRACES = 16;
+    private static final int MIN_SPANS_PER_TRACE = 4;
+
     /**
      * List of accumulated spans.
      */
@@ -115,26 +119,36 @@ public class TestTracer implements Tracer {
     }
 
     /**
-     * Convert the list of spans into a tree.
+     * Convert the list of spans into a tree. Spans are indexed by trace and span id first, so parents don't need to
+     * precede their children in the list. Spans whose parent is not in the list become roots. Roots and children keep
+     * the order of the list.
      * 
      * @return Tree of spans.
      */
     public TestSpanTree spanTree() {
         TestSpanTree tree = new TestSpanTree();
-        Map<Long, TreeNode<TestSpan>> map = new HashMap<>();
+        LongObjectMap<LongObjectMap<TreeNode<TestSpan>>> traces = new LongObjectMap<>(MIN_TRACES);
+        List<TreeNode<TestSpan>> nodes = new ArrayList<>(spans.size());
         for (TestSpan span : spans) {
-            map.put(span.getSpanId(), new TreeNode<>(span));
+            LongObjectMap<TreeNode<TestSpan>> trace = traces.get(span.getTraceId());
+            if (trace == null) {
+                trace = new LongObjectMap<>(MIN_SPANS_PER_TRACE);
+                traces.put(span.getTraceId(), trace);
+            }
+            TreeNode<TestSpan> node = new TreeNode<>(span);
+            trace.put(span.getSpanId(), node);
+            nodes.add(node);
         }
 
-        for (TestSpan span : spans) {
-            TreeNode<TestSpan> spanTreeNode = map.get(span.getSpanId());
-            if (span.getParentId() == 0 || map.get(span.getParentId()) == null) {
-                tree.addRootNode(spanTreeNode);
+        for (TreeNode<TestSpan> node : nodes) {
+            TestSpan span = node.getData();
+            TreeNode<TestSpan> parentNode = span.getParentId() == 0
+                    ? null
+                    : traces.get(span.getTraceId()).get(span.getParentId());
+            if (parentNode == null) {
+                tree.addRootNode(node);
             } else {
-                TreeNode<TestSpan> parentNode = map.get(span.getParentId());
-                if (parentNode != null) {
-                    parentNode.addChild(spanTreeNode);
-                }
+                parentNode.addChild(node);
             }
         }
         return tree;
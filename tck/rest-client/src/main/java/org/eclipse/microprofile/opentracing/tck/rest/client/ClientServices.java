@@ -67,4 +67,9 @@ public interface ClientServices {
     @Path(TestServerWebServices.REST_SIMPLE_TEST)
     @Produces(MediaType.TEXT_PLAIN)
     Response disabledTracing();
+
+    @GET
+    @Path(TestServerWebServices.REST_SIMPLE_TEST)
+    @Produces(MediaType.TEXT_PLAIN)
+    Response simpleTest();
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.eclipse.microprofile.opentracing.tck.rest.client;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.opentracing.tck.application.TestServerWebServices;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+/**
+ * MicroProfile Rest Client tests with a client skip pattern. Outbound requests whose URI matches the pattern must
+ * neither create a client span nor inject the span context, all other outbound requests are traced as usual.
+ */
+public class OpenTracingMpRestClientSkipPatternTests extends OpenTracingMpRestClientTests {
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        Map<String, String> config = new HashMap<>();
+        config.put("mp.opentracing.client.skip-pattern",
+                ".*/" + TestServerWebServices.REST_TEST_SERVICE_PATH + "/"
+                        + TestServerWebServices.REST_SIMPLE_TEST);
+        return withConfiguration(OpenTracingMpRestClientTests.createDeployment(), config);
+    }
+
+    @Test
+    @RunAsClient
+    private void testClientSkipped() {
+        testNotTraced(RestClientServices.REST_MP_REST_CLIENT_SKIPPED);
+    }
+}
@@ -125,7 +125,14 @@ public class OpenTracingMpRestClientTests extends OpenTracingBaseTests {
         testNotTraced(RestClientServices.REST_MP_REST_CLIENT_DISABLED_TRACING_METHOD);
     }
 
-    private void testNotTraced(String service) {
+    /**
+     * Execute an endpoint whose outbound request to {@link TestServerWebServices#REST_SIMPLE_TEST} is not traced, so
+     * the server span of the target endpoint is a root span of its own.
+     *
+     * @param service
+     *            Endpoint of {@link RestClientServices} to execute.
+     */
+    protected void testNotTraced(String service) {
         executeRemoteWebServiceRaw(RestClientServices.REST_SERVICE_PATH, service, Status.OK)
                 .close();
 
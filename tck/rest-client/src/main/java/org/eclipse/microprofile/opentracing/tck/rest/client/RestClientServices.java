@@ -68,6 +68,11 @@ public class RestClientServices {
      */
     public static final String REST_MP_REST_CLIENT_DISABLED_TRACING_METHOD = "restClientMethodTracingDisabled";
 
+    /**
+     * Web service endpoint that uses rest client to call an endpoint excluded by the client skip pattern.
+     */
+    public static final String REST_MP_REST_CLIENT_SKIPPED = "restClientSkipped";
+
     /**
      * Represents the URI of the executing web service call.
      */
@@ -98,6 +103,18 @@ public class RestClientServices {
         return Response.ok().build();
     }
 
+    @GET
+    @Path(REST_MP_REST_CLIENT_SKIPPED)
+    @Produces(MediaType.TEXT_PLAIN)
+    public Response restClientSkipped() throws MalformedURLException {
+        URL webServicesUrl = new URL(getBaseURL().toString() + "rest/" + TestServerWebServices.REST_TEST_SERVICE_PATH);
+        ClientServices client = RestClientBuilder.newBuilder()
+                .baseUrl(webServicesUrl)
+                .build(ClientServices.class);
+        client.simpleTest().close();
+        return Response.ok().build();
+    }
+
     @GET
     @Path(REST_NESTED_MP_REST_CLIENT)
     @Produces(MediaType.TEXT_PLAIN)